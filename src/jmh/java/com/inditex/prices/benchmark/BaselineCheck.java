@@ -0,0 +1,89 @@
+package com.inditex.prices.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result with the baseline committed in {@code src/jmh/baseline.json} and fails when a score
+ * or the normalized allocation rate ({@code gc.alloc.rate.norm}) got worse than the allowed drift.
+ * Benchmarks missing from the baseline are reported as new. A missing or empty baseline fails the check, as nothing
+ * would be compared. To record or move the baseline, copy the result file over it.
+ */
+public final class BaselineCheck {
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private BaselineCheck() {
+    }
+
+    /**
+     * @param args Result file, baseline file and allowed drift in percent.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, Score> current = read(Path.of(args[0]));
+        Path baselineFile = Path.of(args[1]);
+        Map<String, Score> baseline = Files.exists(baselineFile) ? read(baselineFile) : Map.of();
+        double threshold = Double.parseDouble(args[2]) / 100;
+        if (baseline.isEmpty()) {
+            System.out.printf("No baseline recorded in %s, nothing to compare against. Record one with:%n"
+                    + "  cp %s %s%n", baselineFile, args[0], baselineFile);
+            System.exit(1);
+        }
+
+        int regressions = 0;
+        int compared = 0;
+        for (Map.Entry<String, Score> entry : new TreeMap<>(current).entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("NEW        %s: %.3f %s, %.1f B/op%n", entry.getKey(), now.score(), now.unit(),
+                        now.allocation());
+                continue;
+            }
+            compared++;
+            double scoreDrift = now.higherIsBetter()
+                    ? (before.score() - now.score()) / before.score()
+                    : (now.score() - before.score()) / before.score();
+            double allocationDrift = before.allocation() > 0
+                    ? (now.allocation() - before.allocation()) / before.allocation()
+                    : (now.allocation() > 0 ? Double.POSITIVE_INFINITY : 0);
+            boolean regressed = scoreDrift > threshold || allocationDrift > threshold;
+            if (regressed) regressions++;
+            System.out.printf("%-10s %s: %.3f -> %.3f %s, %.1f -> %.1f B/op%n", regressed ? "REGRESSION" : "OK",
+                    entry.getKey(), before.score(), now.score(), now.unit(), before.allocation(), now.allocation());
+        }
+        if (compared == 0) {
+            System.out.printf("None of the benchmarks run is in the baseline %s, record it again%n", baselineFile);
+            System.exit(1);
+        }
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed more than %.0f%% against the baseline%n", regressions,
+                    threshold * 100);
+            System.exit(1);
+        }
+    }
+
+    private record Score(double score, String unit, boolean higherIsBetter, double allocation) {}
+
+    private static Map<String, Score> read(Path file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText())
+                    .append(" [").append(run.path("mode").asText()).append(']');
+            run.path("params").properties().forEach(param ->
+                    key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText()));
+
+            JsonNode primary = run.path("primaryMetric");
+            String mode = run.path("mode").asText();
+            scores.put(key.toString(), new Score(primary.path("score").asDouble(), primary.path("scoreUnit").asText(),
+                    mode.equals("thrpt"), run.path("secondaryMetrics").path(ALLOCATION).path("score").asDouble()));
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,73 @@
+package com.inditex.prices.benchmark;
+
+import com.inditex.prices.infrastructure.adapter.out.persistence.JpaPriceRepository;
+import com.inditex.prices.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+
+/**
+ * H2 database with the production schema and a synthetic PRICES catalog, behind the real Spring Data repository.
+ * Only the persistence layer is started: no web server, Redis or Kafka.
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+    private final ConfigurableApplicationContext context;
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = {RedisAutoConfiguration.class, RedisRepositoriesAutoConfiguration.class,
+            KafkaAutoConfiguration.class})
+    @EntityScan(basePackageClasses = PriceEntity.class)
+    @EnableJpaRepositories(basePackageClasses = JpaPriceRepository.class)
+    static class PersistenceOnly {
+    }
+
+    private BenchmarkDatabase(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Starts the database and bulk loads the catalog.
+     *
+     * @param spec    The catalog to generate.
+     * @param indexed Whether to add an index on product and brand, which the production schema does not have.
+     */
+    static BenchmarkDatabase start(CatalogSpec spec, boolean indexed) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(PersistenceOnly.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:bench-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                        "--spring.sql.init.mode=never",
+                        "--spring.jpa.hibernate.ddl-auto=none",
+                        "--spring.jpa.open-in-view=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.inditex.prices=WARN");
+        DataSource dataSource = context.getBean(DataSource.class);
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        CatalogLoader.load(dataSource, spec);
+        if (indexed) {
+            new JdbcTemplate(dataSource).execute("CREATE INDEX PRICES_PRODUCT_BRAND ON PRICES (PRODUCT_ID, BRAND_ID)");
+        }
+        return new BenchmarkDatabase(context);
+    }
+
+    JpaPriceRepository repository() {
+        return context.getBean(JpaPriceRepository.class);
+    }
+
+    @Override
+    public void close() {
+        new JdbcTemplate(context.getBean(DataSource.class)).execute("SHUTDOWN");
+        context.close();
+    }
+}
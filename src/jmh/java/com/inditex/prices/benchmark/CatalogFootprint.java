@@ -0,0 +1,82 @@
+package com.inditex.prices.benchmark;
+
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceTimeline;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.lang.management.ManagementFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.lang.management.MemoryMXBean;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reports, for growing catalog sizes, how fast the catalog bulk loads and how much heap it takes: in the
+ * in-memory H2 table and as compiled timelines, which is what the in-process cache tier and the index hold.
+ * Heap is sampled after a full GC, so figures are approximate; run with a heap large enough for the largest size.
+ */
+public final class CatalogFootprint {
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    private CatalogFootprint() {
+    }
+
+    /**
+     * @param args Comma-separated product counts and comma-separated windows per product.
+     */
+    public static void main(String[] args) {
+        List<Long> productCounts = Arrays.stream(args[0].split(",")).map(String::trim).map(Long::parseLong).toList();
+        List<Integer> windowCounts = Arrays.stream(args[1].split(",")).map(String::trim).map(Integer::parseInt).toList();
+
+        System.out.printf("%10s %8s %12s %14s %10s %10s %14s %16s%n", "products", "windows", "rows", "load rows/s",
+                "h2 MB", "h2 B/row", "timelines MB", "timeline B/row");
+        for (int windows : windowCounts) {
+            for (long products : productCounts) {
+                report(CatalogSpec.of(products, windows));
+            }
+        }
+    }
+
+    private static void report(CatalogSpec spec) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:footprint-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+
+        long before = usedHeap();
+        long start = System.nanoTime();
+        CatalogLoader.load(dataSource, spec);
+        double rowsPerSecond = spec.rows() / ((System.nanoTime() - start) / 1e9);
+        double databaseBytes = usedHeap() - before;
+        new JdbcTemplate(dataSource).execute("SHUTDOWN");
+
+        before = usedHeap();
+        CatalogGenerator catalog = new CatalogGenerator(spec);
+        Map<PriceKey, PriceTimeline> timelines = new HashMap<>();
+        for (long productId = 1; productId <= spec.products(); productId++) {
+            timelines.put(new PriceKey(productId, catalog.brandOf(productId)),
+                    PriceTimeline.compile(catalog.product(productId)));
+        }
+        double timelineBytes = usedHeap() - before;
+
+        System.out.printf("%10d %8d %12d %14.0f %10.1f %10.1f %14.1f %16.1f%n", spec.products(),
+                spec.windowsPerProduct(), spec.rows(), rowsPerSecond, databaseBytes / (1 << 20),
+                databaseBytes / spec.rows(), timelineBytes / (1 << 20), timelineBytes / spec.rows());
+        timelines.clear();
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        System.gc();
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,91 @@
+package com.inditex.prices.benchmark;
+
+import com.inditex.prices.domain.model.Price;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Deterministic generator of synthetic price windows.
+ * Every product draws from its own random stream derived from the seed and its id, so its windows do not depend
+ * on generation order and any product can be regenerated on its own, for example to pick lookup targets.
+ */
+public final class CatalogGenerator {
+    public static final LocalDateTime HORIZON_START = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final long HORIZON_SECONDS = 365L * 24 * 3600;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final String CURRENCY = "EUR";
+
+    private final CatalogSpec spec;
+
+    public CatalogGenerator(CatalogSpec spec) {
+        this.spec = spec;
+    }
+
+    /**
+     * Generates every window of the catalog, product by product.
+     */
+    public void forEach(Consumer<Price> sink) {
+        for (long productId = 1; productId <= spec.products(); productId++) {
+            product(productId).forEach(sink);
+        }
+    }
+
+    /**
+     * Generates the windows of one product.
+     */
+    public List<Price> product(long productId) {
+        SplittableRandom random = new SplittableRandom(spec.seed() ^ (productId * GOLDEN_GAMMA));
+        long brandId = brandOf(productId);
+        int promotions = spec.windowsPerProduct() - 1;
+        BigDecimal basePrice = BigDecimal.valueOf(random.nextInt(1_000, 10_000), 2);
+
+        List<Price> windows = new ArrayList<>(spec.windowsPerProduct());
+        windows.add(window(productId, brandId, 1, 0, 0, HORIZON_SECONDS, basePrice));
+        if (promotions == 0) return windows;
+
+        long slot = HORIZON_SECONDS / promotions;
+        long spill = (long) (slot * spec.overlapDensity());
+        for (int i = 0; i < promotions; i++) {
+            long jitter = random.nextLong(Math.max(1, slot / 10));
+            long start = Math.max(0, i * slot - spill + jitter);
+            long end = Math.min(HORIZON_SECONDS, (i + 1) * slot + spill - jitter);
+            BigDecimal discount = BigDecimal.valueOf(random.nextInt(50, 96), 2);
+            windows.add(window(productId, brandId, i + 2, priority(random), start, end,
+                    basePrice.multiply(discount).setScale(2, RoundingMode.HALF_UP)));
+        }
+        return windows;
+    }
+
+    public long brandOf(long productId) {
+        return productId % spec.brands() + 1;
+    }
+
+    private int priority(SplittableRandom random) {
+        if (spec.priorityDistribution() == CatalogSpec.PriorityDistribution.UNIFORM) {
+            return random.nextInt(1, spec.priorityLevels() + 1);
+        }
+        int level = 1;
+        while (level < spec.priorityLevels() && random.nextBoolean()) level++;
+        return level;
+    }
+
+    private static Price window(long productId, long brandId, int priceList, int priority, long startSecond,
+                                long endSecond, BigDecimal price) {
+        return Price.builder()
+                .productId(productId)
+                .brandId(brandId)
+                .priceList(priceList)
+                .priority(priority)
+                .startDate(HORIZON_START.plusSeconds(startSecond))
+                .endDate(HORIZON_START.plusSeconds(endSecond - 1))
+                .price(price)
+                .currency(CURRENCY)
+                .build();
+    }
+}
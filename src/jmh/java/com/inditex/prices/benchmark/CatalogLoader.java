@@ -0,0 +1,62 @@
+package com.inditex.prices.benchmark;
+
+import com.inditex.prices.domain.model.Price;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Bulk loads a synthetic catalog into the PRICES table with batched JDBC inserts, one transaction per batch.
+ */
+public final class CatalogLoader {
+    private static final int BATCH_SIZE = 10_000;
+    private static final String INSERT = """
+            INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private CatalogLoader() {
+    }
+
+    /**
+     * @return The number of rows inserted.
+     */
+    public static long load(DataSource dataSource, CatalogSpec spec) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement(INSERT)) {
+            connection.setAutoCommit(false);
+            long[] rows = {0};
+            new CatalogGenerator(spec).forEach(price -> {
+                try {
+                    bind(insert, price);
+                    insert.addBatch();
+                    if (++rows[0] % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                } catch (SQLException e) {
+                    throw new IllegalStateException("Could not insert synthetic prices", e);
+                }
+            });
+            insert.executeBatch();
+            connection.commit();
+            return rows[0];
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not insert synthetic prices", e);
+        }
+    }
+
+    private static void bind(PreparedStatement insert, Price price) throws SQLException {
+        insert.setLong(1, price.brandId());
+        insert.setTimestamp(2, Timestamp.valueOf(price.startDate()));
+        insert.setTimestamp(3, Timestamp.valueOf(price.endDate()));
+        insert.setInt(4, price.priceList());
+        insert.setLong(5, price.productId());
+        insert.setInt(6, price.priority());
+        insert.setBigDecimal(7, price.price());
+        insert.setString(8, price.currency());
+    }
+}
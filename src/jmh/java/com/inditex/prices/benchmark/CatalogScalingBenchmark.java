@@ -0,0 +1,95 @@
+package com.inditex.prices.benchmark;
+
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.infrastructure.adapter.out.index.PriceIndex;
+import com.inditex.prices.infrastructure.adapter.out.persistence.JpaPriceRepository;
+import com.inditex.prices.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup latency percentiles as the catalog grows, for the indexed database query and for the compiled timelines
+ * the cache tiers hold. Dates are spread over the whole year, so lookups land on every kind of segment.
+ * Denser catalogs are measured with {@code -p windows=32}; heap footprint per size is reported by
+ * {@link CatalogFootprint}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class CatalogScalingBenchmark {
+    private static final long HORIZON_MINUTES = 365L * 24 * 60;
+
+    @Param({"10000", "100000", "1000000"})
+    long products;
+
+    @Param({"8"})
+    int windows;
+
+    private BenchmarkDatabase database;
+    private JpaPriceRepository repository;
+    private CatalogGenerator catalog;
+    private PriceIndex timelines;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CatalogSpec spec = CatalogSpec.of(products, windows);
+        catalog = new CatalogGenerator(spec);
+        database = BenchmarkDatabase.start(spec, true);
+        repository = database.repository();
+
+        timelines = new PriceIndex();
+        Map<PriceKey, List<Price>> byProduct = new HashMap<>();
+        for (long productId = 1; productId <= products; productId++) {
+            byProduct.put(new PriceKey(productId, catalog.brandOf(productId)), catalog.product(productId));
+        }
+        timelines.replaceAll(byProduct);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public Optional<PriceEntity> databaseLookup() {
+        long productId = randomProduct();
+        return repository.findTopPrice(randomDate(), productId, catalog.brandOf(productId));
+    }
+
+    @Benchmark
+    public Optional<Price> timelineLookup() {
+        long productId = randomProduct();
+        return timelines.findTopPrice(randomDate(), new PriceKey(productId, catalog.brandOf(productId)));
+    }
+
+    private long randomProduct() {
+        return ThreadLocalRandom.current().nextLong(products) + 1;
+    }
+
+    private static LocalDateTime randomDate() {
+        return CatalogGenerator.HORIZON_START.plusMinutes(ThreadLocalRandom.current().nextLong(HORIZON_MINUTES));
+    }
+}
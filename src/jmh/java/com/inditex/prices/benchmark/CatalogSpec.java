@@ -0,0 +1,55 @@
+package com.inditex.prices.benchmark;
+
+/**
+ * Shape of a synthetic PRICES catalog.
+ *
+ * @param products             Products to generate, with ids 1 to {@code products}.
+ * @param brands               Brands the products are spread over, round robin.
+ * @param windowsPerProduct    Price windows per product: a year-long base price plus promotions.
+ * @param overlapDensity       Share of its slot by which each promotion extends into its neighbours, from 0
+ *                             (back to back) to 1 (each promotion covers its neighbours' slots too).
+ * @param priorityLevels       Highest promotion priority; the base price always has priority 0.
+ * @param priorityDistribution How promotion priorities are drawn.
+ * @param seed                 Seed of the generator. The same spec always generates the same rows.
+ */
+public record CatalogSpec(
+        long products,
+        int brands,
+        int windowsPerProduct,
+        double overlapDensity,
+        int priorityLevels,
+        PriorityDistribution priorityDistribution,
+        long seed
+) {
+    public enum PriorityDistribution {
+        /**
+         * Every level is as likely.
+         */
+        UNIFORM,
+        /**
+         * Each level is half as likely as the one below it, as with a few exceptional campaigns over many
+         * regular ones.
+         */
+        GEOMETRIC
+    }
+
+    public CatalogSpec {
+        if (products < 1 || brands < 1 || windowsPerProduct < 1 || priorityLevels < 1) {
+            throw new IllegalArgumentException("Catalog sizes must be positive");
+        }
+        if (overlapDensity < 0 || overlapDensity > 1) {
+            throw new IllegalArgumentException("Overlap density must be between 0 and 1");
+        }
+    }
+
+    /**
+     * One brand, moderately overlapping promotions and skewed priorities.
+     */
+    public static CatalogSpec of(long products, int windowsPerProduct) {
+        return new CatalogSpec(products, 1, windowsPerProduct, 0.5, 3, PriorityDistribution.GEOMETRIC, 42);
+    }
+
+    public long rows() {
+        return products * windowsPerProduct;
+    }
+}
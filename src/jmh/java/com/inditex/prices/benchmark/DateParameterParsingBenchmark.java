@@ -0,0 +1,56 @@
+package com.inditex.prices.benchmark;
+
+import com.inditex.prices.infrastructure.adapter.in.rest.PriceController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.format.support.DefaultFormattingConversionService;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of the {@code date} request parameter: Spring's {@code @DateTimeFormat} binding, as MVC runs it
+ * for every request, against a plain parse with a shared formatter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateParameterParsingBenchmark {
+    private static final String DATE = "2020-06-14-10.00.00";
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH.mm.ss");
+    private static final TypeDescriptor STRING = TypeDescriptor.valueOf(String.class);
+
+    private DefaultFormattingConversionService conversionService;
+    private TypeDescriptor dateParameter;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        conversionService = new DefaultFormattingConversionService();
+        dateParameter = new TypeDescriptor(new MethodParameter(
+                PriceController.class.getMethod("getPrice", LocalDateTime.class, Long.class, Long.class), 0));
+    }
+
+    @Benchmark
+    public Object dateTimeFormatBinding() {
+        return conversionService.convert(DATE, STRING, dateParameter);
+    }
+
+    @Benchmark
+    public LocalDateTime sharedFormatter() {
+        return LocalDateTime.parse(DATE, FORMATTER);
+    }
+}
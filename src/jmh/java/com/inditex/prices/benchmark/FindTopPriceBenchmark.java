@@ -0,0 +1,79 @@
+package com.inditex.prices.benchmark;
+
+import com.inditex.prices.infrastructure.adapter.out.persistence.JpaPriceRepository;
+import com.inditex.prices.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Database queries of the read path against a synthetic H2 catalog of a million rows: the single-date
+ * {@code findTopPrice} and the per-product window load the timeline cache uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FindTopPriceBenchmark {
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+    @Param({"100000"})
+    long products;
+
+    @Param({"10"})
+    int windows;
+
+    @Param({"false", "true"})
+    boolean indexed;
+
+    private BenchmarkDatabase database;
+    private JpaPriceRepository repository;
+    private CatalogGenerator catalog;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CatalogSpec spec = CatalogSpec.of(products, windows);
+        database = BenchmarkDatabase.start(spec, indexed);
+        repository = database.repository();
+        catalog = new CatalogGenerator(spec);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public Optional<PriceEntity> findTopPrice() {
+        long productId = randomProduct();
+        return repository.findTopPrice(DATE, productId, catalog.brandOf(productId));
+    }
+
+    @Benchmark
+    public List<PriceEntity> findByProductIdAndBrandId() {
+        long productId = randomProduct();
+        return repository.findByProductIdAndBrandId(productId, catalog.brandOf(productId));
+    }
+
+    private long randomProduct() {
+        return ThreadLocalRandom.current().nextLong(products) + 1;
+    }
+}
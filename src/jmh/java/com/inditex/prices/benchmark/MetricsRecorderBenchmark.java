@@ -0,0 +1,52 @@
+package com.inditex.prices.benchmark;
+
+import com.inditex.prices.infrastructure.monitoring.MetricsRecorder;
+import com.inditex.prices.infrastructure.monitoring.MetricsTier;
+import com.inditex.prices.infrastructure.monitoring.MetricsType;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.inditex.prices.infrastructure.monitoring.MetricsEndpoint.PRICE_DETAIL;
+
+/**
+ * Metric recording on the request path against the Prometheus registry used in production, from several
+ * threads so contention shows up. Allocation per operation should stay at zero.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class MetricsRecorderBenchmark {
+    private MetricsRecorder metrics;
+
+    @Setup
+    public void setUp() {
+        metrics = new MetricsRecorder(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+    }
+
+    @Benchmark
+    public void recordRequest() {
+        metrics.recordRequest(PRICE_DETAIL.getValue(), MetricsType.SUCCESS);
+    }
+
+    @Benchmark
+    public void recordTierLatency() {
+        metrics.recordLatency(MetricsTier.L1, 250);
+    }
+}
@@ -0,0 +1,129 @@
+package com.inditex.prices.benchmark;
+
+import com.inditex.prices.application.service.PriceService;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.infrastructure.adapter.out.cache.LoadLease;
+import com.inditex.prices.infrastructure.adapter.out.cache.LocalCacheBuilder;
+import com.inditex.prices.infrastructure.adapter.out.cache.PriceKeyGenerations;
+import com.inditex.prices.infrastructure.adapter.out.index.PriceKeyFilter;
+import com.inditex.prices.infrastructure.adapter.out.persistence.JpaPriceRepository;
+import com.inditex.prices.infrastructure.adapter.out.persistence.PriceRepositoryAdapter;
+import com.inditex.prices.infrastructure.adapter.out.persistence.PriceTimelineLoader;
+import com.inditex.prices.infrastructure.adapter.out.persistence.PriceTimelineRefresher;
+import com.inditex.prices.infrastructure.config.CacheProperties;
+import com.inditex.prices.infrastructure.config.KeyFilterProperties;
+import com.inditex.prices.infrastructure.config.PriceLoaderProperties;
+import com.inditex.prices.infrastructure.monitoring.MetricsRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static com.inditex.prices.infrastructure.adapter.out.persistence.PriceRepositoryAdapter.PRICE_TIMELINE_CACHE;
+
+/**
+ * {@link PriceService#getPrice} over the real adapter, loader and in-process cache of the local profile, with
+ * the H2 database behind it. A hit is served from a warmed cache; a miss evicts the product first, so it pays
+ * the query and the timeline compilation. The circuit breaker aspect is not applied outside Spring.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PriceLookupBenchmark {
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 10, 0);
+    private static final int PRELOAD_CHUNK = 1_000;
+
+    @Param({"25000"})
+    long products;
+
+    @Param({"4"})
+    int windows;
+
+    private BenchmarkDatabase database;
+    private PriceTimelineLoader loader;
+    private PriceTimelineRefresher refresher;
+    private PriceService service;
+    private Cache cache;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.start(CatalogSpec.of(products, windows), true);
+        JpaPriceRepository repository = database.repository();
+        MetricsRecorder metrics = new MetricsRecorder(new SimpleMeterRegistry());
+
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.setCacheTtl(Duration.ofMinutes(30));
+        cacheProperties.setNegativeTtl(Duration.ofSeconds(30));
+        cacheProperties.setLocalTtl(Duration.ofMinutes(30));
+        cacheProperties.setLocalMaxWeight(products * windows * 2);
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(PRICE_TIMELINE_CACHE);
+        cacheManager.setCaffeine(LocalCacheBuilder.from(cacheProperties));
+        cacheManager.setAllowNullValues(false);
+        cache = cacheManager.getCache(PRICE_TIMELINE_CACHE);
+
+        KeyFilterProperties keyFilterProperties = new KeyFilterProperties();
+        keyFilterProperties.setEnabled(true);
+        PriceKeyFilter keyFilter = new PriceKeyFilter(repository, keyFilterProperties, new SimpleMeterRegistry());
+        keyFilter.load();
+
+        loader = new PriceTimelineLoader(repository, metrics, new PriceLoaderProperties());
+        PriceKeyGenerations generations = new PriceKeyGenerations();
+        refresher = new PriceTimelineRefresher(loader, metrics, cacheProperties, generations);
+        PriceRepositoryAdapter adapter = new PriceRepositoryAdapter(loader, metrics, cacheManager, LoadLease.NONE,
+                keyFilter, refresher, generations);
+        service = new PriceService(adapter, metrics);
+
+        for (long first = 1; first <= products; first += PRELOAD_CHUNK) {
+            List<PriceKey> keys = LongStream.range(first, Math.min(first + PRELOAD_CHUNK, products + 1))
+                    .mapToObj(id -> new PriceKey(id, 1L))
+                    .toList();
+            adapter.preload(keys);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        refresher.shutdown();
+        loader.shutdown();
+        database.close();
+    }
+
+    @Benchmark
+    public Price cacheHit() {
+        return service.getPrice(DATE, randomProduct(), 1L);
+    }
+
+    @Benchmark
+    public Price cacheMiss() {
+        long productId = randomProduct();
+        cache.evict(new PriceKey(productId, 1L));
+        return service.getPrice(DATE, productId, 1L);
+    }
+
+    private long randomProduct() {
+        return ThreadLocalRandom.current().nextLong(products) + 1;
+    }
+}
@@ -0,0 +1,61 @@
+package com.inditex.prices.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.infrastructure.adapter.in.rest.PriceResponseCache;
+import com.inditex.prices.infrastructure.adapter.in.rest.dto.PriceResponse;
+import com.inditex.prices.infrastructure.config.ObjectMapperConfig;
+import com.inditex.prices.infrastructure.config.ResponseCacheProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON body of a price response: the DTO mapping plus Jackson, as on a response cache miss, against a
+ * response cache hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceResponseSerializationBenchmark {
+    private ObjectMapper objectMapper;
+    private PriceResponseCache responseCache;
+    private Price price;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapperConfig().objectMapper();
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setEnabled(true);
+        responseCache = new PriceResponseCache(objectMapper, properties);
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 15, 0);
+        price = Price.builder().brandId(1L).productId(35455L).priceList(2).priority(1)
+                .startDate(start).endDate(start.plusHours(3).plusMinutes(30))
+                .price(new BigDecimal("25.45")).currency("EUR").build();
+    }
+
+    @Benchmark
+    public byte[] jackson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(PriceResponse.fromDomain(price));
+    }
+
+    @Benchmark
+    public PriceResponseCache.Rendered responseCacheHit() {
+        return responseCache.render(price);
+    }
+}
@@ -0,0 +1,73 @@
+package com.inditex.prices.benchmark;
+
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceTimeline;
+import com.inditex.prices.infrastructure.adapter.out.cache.PriceTimelineBinarySerializer;
+import com.inditex.prices.infrastructure.adapter.out.cache.PriceTimelineJsonSerializer;
+import com.inditex.prices.infrastructure.config.ObjectMapperConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis value codecs of a cached timeline: JSON against the versioned binary format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimelineCodecBenchmark {
+
+    @Param({"json", "binary"})
+    String codec;
+
+    @Param({"4", "32"})
+    int windows;
+
+    private RedisSerializer<PriceTimeline> serializer;
+    private PriceTimeline timeline;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        PriceTimelineJsonSerializer json = new PriceTimelineJsonSerializer(new ObjectMapperConfig().objectMapper());
+        serializer = codec.equals("json") ? json : new PriceTimelineBinarySerializer(json);
+
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+        List<Price> prices = new ArrayList<>();
+        for (int i = 0; i < windows; i++) {
+            prices.add(Price.builder().brandId(1L).productId(35455L).priceList(i + 1).priority(i % 3)
+                    .startDate(start.plusDays(10L * i)).endDate(start.plusDays(10L * i + 15).minusSeconds(1))
+                    .price(new BigDecimal("35.50").add(BigDecimal.valueOf(i))).currency("EUR").build());
+        }
+        timeline = PriceTimeline.compile(prices);
+        bytes = serializer.serialize(timeline);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(timeline);
+    }
+
+    @Benchmark
+    public PriceTimeline deserialize() {
+        return serializer.deserialize(bytes);
+    }
+}
@@ -2,16 +2,21 @@ package com.inditex.prices.application.service;
 
 import com.inditex.prices.application.usecase.PriceUseCase;
 import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceQuery;
 import com.inditex.prices.domain.repository.PriceRepository;
 import com.inditex.prices.infrastructure.monitoring.MetricsEndpoint;
 import com.inditex.prices.infrastructure.monitoring.MetricsRecorder;
 import com.inditex.prices.infrastructure.monitoring.MetricsType;
+import com.inditex.prices.infrastructure.monitoring.PriceLookupEvent;
+import com.inditex.prices.infrastructure.monitoring.RequestTrace;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Service implementation for product prices.
@@ -25,6 +30,8 @@ public class PriceService implements PriceUseCase {
 
     /**
      * Executes the search for a price based on criteria.
+     * While Flight Recorder is recording, each search emits a {@link PriceLookupEvent} with the tier it was
+     * served from.
      *
      * @param date      The date.
      * @param productId The product identifier.
@@ -35,10 +42,44 @@ public class PriceService implements PriceUseCase {
     public Price getPrice(LocalDateTime date, Long productId, Long brandId) {
         log.info("Getting a price based on product id: {} - brand id: {} - date: {}", productId, brandId, date);
         Objects.requireNonNull(date, "The date must not be null");
-        Price price = priceRepository.getPrice(date, productId, brandId);
+        PriceLookupEvent event = new PriceLookupEvent();
+        event.begin();
+        RequestTrace trace = RequestTrace.current();
+        boolean ownTrace = trace == null && event.isEnabled();
+        if (ownTrace) trace = RequestTrace.begin();
+        long start = System.nanoTime();
+        Price price;
+        try {
+            price = priceRepository.getPrice(date, productId, brandId);
+        } finally {
+            metrics.recordLatency(MetricsEndpoint.PRICE_DETAIL.getValue(), System.nanoTime() - start);
+            event.complete(productId, brandId, trace != null ? trace.servedFrom() : null);
+            if (ownTrace) RequestTrace.end();
+        }
         log.info("Returning price by product id {}", productId);
         metrics.recordRequest(MetricsEndpoint.PRICE_DETAIL.getValue(), MetricsType.SUCCESS);
         return price;
     }
 
+    /**
+     * Executes many price searches at once.
+     *
+     * @param queries The search criteria.
+     * @return The found prices in the order of the queries, empty for the searches without a price.
+     * @throws NullPointerException if any query date is null.
+     */
+    public List<Optional<Price>> getPrices(List<PriceQuery> queries) {
+        log.info("Getting {} prices in batch", queries.size());
+        queries.forEach(query -> Objects.requireNonNull(query.date(), "The date must not be null"));
+        long start = System.nanoTime();
+        List<Optional<Price>> prices;
+        try {
+            prices = priceRepository.getPrices(queries);
+        } finally {
+            metrics.recordLatency(MetricsEndpoint.PRICE_BATCH.getValue(), System.nanoTime() - start);
+        }
+        metrics.recordRequest(MetricsEndpoint.PRICE_BATCH.getValue(), MetricsType.SUCCESS);
+        return prices;
+    }
+
 }
@@ -1,12 +1,17 @@
 package com.inditex.prices.application.usecase;
 
 import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceQuery;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Interface for the price search use case.
  */
 public interface PriceUseCase {
     Price getPrice(LocalDateTime date, Long productId, Long brandId);
+
+    List<Optional<Price>> getPrices(List<PriceQuery> queries);
 }
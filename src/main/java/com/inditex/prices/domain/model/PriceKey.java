@@ -0,0 +1,22 @@
+package com.inditex.prices.domain.model;
+
+/**
+ * Identifies the set of prices that belong to a product within a brand.
+ */
+public record PriceKey(
+        Long productId,
+        Long brandId
+) {
+    public static PriceKey of(Price price) {
+        return new PriceKey(price.productId(), price.brandId());
+    }
+
+    /**
+     * Parses the {@code productId:brandId} form used in cache keys and configuration.
+     */
+    public static PriceKey parse(String value) {
+        int separator = value.indexOf(':');
+        if (separator < 0) throw new IllegalArgumentException("Expected productId:brandId but got " + value);
+        return new PriceKey(Long.valueOf(value.substring(0, separator).trim()), Long.valueOf(value.substring(separator + 1).trim()));
+    }
+}
@@ -0,0 +1,16 @@
+package com.inditex.prices.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Criteria of a single price search: the price of a product and brand at a date.
+ */
+public record PriceQuery(
+        LocalDateTime date,
+        Long productId,
+        Long brandId
+) {
+    public PriceKey key() {
+        return new PriceKey(productId, brandId);
+    }
+}
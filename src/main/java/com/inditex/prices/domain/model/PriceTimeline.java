@@ -0,0 +1,127 @@
+package com.inditex.prices.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+/**
+ * Compiled price timeline of a product and brand.
+ * Overlapping price windows are resolved by priority once, at compile time, into a sorted array of disjoint
+ * segments, so finding the price that applies at a date is a single binary search.
+ */
+public final class PriceTimeline {
+    private static final PriceTimeline EMPTY = new PriceTimeline(List.of(), List.of());
+
+    /**
+     * Highest priority first. On equal priority the window that started first wins.
+     */
+    private static final Comparator<Price> PRECEDENCE = Comparator.comparing(Price::priority).reversed()
+            .thenComparing(Price::startDate);
+
+    private final List<Price> prices;
+    private final Segment[] segments;
+    private final LocalDateTime[] starts;
+
+    /**
+     * Range of time where a single price applies.
+     *
+     * @param start Inclusive start of the segment.
+     * @param end   Exclusive end of the segment.
+     * @param price The winning price.
+     */
+    public record Segment(
+            LocalDateTime start,
+            LocalDateTime end,
+            Price price
+    ) {}
+
+    private PriceTimeline(List<Price> prices, List<Segment> segments) {
+        this.prices = prices;
+        this.segments = segments.toArray(Segment[]::new);
+        this.starts = Arrays.stream(this.segments).map(Segment::start).toArray(LocalDateTime[]::new);
+    }
+
+    public static PriceTimeline empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Compiles the price windows of a product and brand into disjoint segments.
+     * Window end dates are inclusive, as in the PRICES table.
+     *
+     * @param prices The price windows.
+     * @return The compiled timeline.
+     */
+    public static PriceTimeline compile(Collection<Price> prices) {
+        if (prices.isEmpty()) return EMPTY;
+
+        Price[] windows = prices.toArray(Price[]::new);
+        Arrays.sort(windows, Comparator.comparing(Price::startDate));
+        LocalDateTime[] points = Arrays.stream(windows)
+                .flatMap(window -> Stream.of(window.startDate(), exclusiveEnd(window)))
+                .distinct()
+                .sorted()
+                .toArray(LocalDateTime[]::new);
+
+        List<Segment> segments = new ArrayList<>();
+        PriorityQueue<Price> active = new PriorityQueue<>(PRECEDENCE);
+        int next = 0;
+        for (int i = 0; i < points.length - 1; i++) {
+            LocalDateTime from = points[i];
+            while (next < windows.length && !windows[next].startDate().isAfter(from)) {
+                active.add(windows[next++]);
+            }
+            while (!active.isEmpty() && !exclusiveEnd(active.peek()).isAfter(from)) {
+                active.poll();
+            }
+            if (active.isEmpty()) continue;
+
+            Price winner = active.peek();
+            Segment last = segments.isEmpty() ? null : segments.getLast();
+            if (last != null && last.price() == winner && last.end().equals(from)) {
+                segments.set(segments.size() - 1, new Segment(last.start(), points[i + 1], winner));
+            } else {
+                segments.add(new Segment(from, points[i + 1], winner));
+            }
+        }
+        return new PriceTimeline(List.copyOf(prices), segments);
+    }
+
+    /**
+     * Finds the price that applies at the given date.
+     *
+     * @param date The date.
+     * @return The winning price, or empty if no window covers the date.
+     */
+    public Optional<Price> priceAt(LocalDateTime date) {
+        int index = Arrays.binarySearch(starts, date);
+        if (index < 0) index = -index - 2;
+        if (index < 0 || !segments[index].end().isAfter(date)) return Optional.empty();
+        return Optional.of(segments[index].price());
+    }
+
+    /**
+     * The source price windows the timeline was compiled from.
+     */
+    public List<Price> prices() {
+        return prices;
+    }
+
+    public List<Segment> segments() {
+        return List.of(segments);
+    }
+
+    public boolean isEmpty() {
+        return segments.length == 0;
+    }
+
+    private static LocalDateTime exclusiveEnd(Price price) {
+        return price.endDate().plusNanos(1);
+    }
+}
@@ -1,12 +1,21 @@
 package com.inditex.prices.domain.repository;
 
 import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceQuery;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Output port for price persistence operations.
  */
 public interface PriceRepository {
     Price getPrice(LocalDateTime date, Long productId, Long brandId);
+
+    /**
+     * Resolves many searches at once. The result keeps the order of the queries and holds an empty
+     * value for every query without a price.
+     */
+    List<Optional<Price>> getPrices(List<PriceQuery> queries);
 }
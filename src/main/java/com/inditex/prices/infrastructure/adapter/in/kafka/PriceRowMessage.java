@@ -0,0 +1,46 @@
+package com.inditex.prices.infrastructure.adapter.in.kafka;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.inditex.prices.domain.model.Price;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Price window carried by a full-payload price update event: a row of the PRICES table without its product
+ * and brand, which come from the enclosing message.
+ */
+@Builder(toBuilder = true)
+public record PriceRowMessage(
+        Integer priceList,
+        Integer priority,
+        @JsonFormat(pattern = "yyyy-MM-dd-HH.mm.ss")
+        LocalDateTime startDate,
+        @JsonFormat(pattern = "yyyy-MM-dd-HH.mm.ss")
+        LocalDateTime endDate,
+        BigDecimal price,
+        String currency
+) {
+    /**
+     * Whether the row can become a price window: every column of the PRICES table is set and the window does not end
+     * before it starts.
+     */
+    public boolean hasValidWindow() {
+        return priceList != null && priority != null && startDate != null && endDate != null && price != null
+                && currency != null && !startDate.isAfter(endDate);
+    }
+
+    public Price toDomain(Long productId, Long brandId) {
+        return Price.builder()
+                .brandId(brandId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .priceList(priceList)
+                .productId(productId)
+                .priority(priority)
+                .price(price)
+                .currency(currency)
+                .build();
+    }
+}
@@ -1,27 +1,185 @@
 package com.inditex.prices.infrastructure.adapter.in.kafka;
 
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.infrastructure.adapter.out.index.InMemoryPriceRepositoryAdapter;
 import com.inditex.prices.infrastructure.adapter.out.persistence.PriceRepositoryAdapter;
-import lombok.RequiredArgsConstructor;
+import com.inditex.prices.infrastructure.config.KafkaProperties;
+import com.inditex.prices.infrastructure.monitoring.CacheInvalidationEvent;
+import com.inditex.prices.infrastructure.monitoring.MetricsRecorder;
+import com.inditex.prices.infrastructure.monitoring.MetricsTier;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
 /**
  * Listens to price update events to maintain data consistency across the system.
+ * Each event is consumed twice: once by the service-wide group, which durably clears the shared tier, and once by
+ * every replica, which clears its own in-process state. Events are keyed by brand and product, so every update of
+ * a product lands on the same partition and is consumed in order, while {@code kafka.concurrency} consumers share
+ * the partitions.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class PriceUpdateConsumer {
     private final PriceRepositoryAdapter priceAdapter;
+    private final ObjectProvider<InMemoryPriceRepositoryAdapter> priceIndex;
+    private final MetricsRecorder metrics;
+    private final Semaphore lanePermits;
+    private final ExecutorService lanes = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("price-update-lane-", 0).factory());
+
+    public PriceUpdateConsumer(PriceRepositoryAdapter priceAdapter,
+                               ObjectProvider<InMemoryPriceRepositoryAdapter> priceIndex,
+                               MetricsRecorder metrics, KafkaProperties kafkaProperties) {
+        this.priceAdapter = priceAdapter;
+        this.priceIndex = priceIndex;
+        this.metrics = metrics;
+        this.lanePermits = new Semaphore(Math.max(1, kafkaProperties.getLaneConcurrency()));
+    }
+
+    /**
+     * This method ensures that the distributed cache is cleared when external price update events are received.
+     * The service-wide consumer group commits its offsets, so the shared tier is cleared even for events published
+     * while every replica was down. It only ever evicts, full-payload events included: it trails the replica groups,
+     * and writing an older snapshot after a newer one would put stale prices back. Events are consumed a poll batch
+     * at a time: every product and brand updated in the batch is evicted once, with a single multi-key eviction,
+     * and the offsets are committed afterwards.
+     * @param messages The event payloads of one poll, containing product and brand identifiers.
+     */
+    @KafkaListener(id = "priceUpdates", topics = "${kafka.topic-name}", groupId = "price-service-group", batch = "true")
+    public void handlePriceUpdates(List<PriceUpdateMessage> messages) {
+        Set<PriceKey> keys = latestByKey(messages).keySet();
+        log.info("Kafka Event: Invalidating cache for {} products due to {} external updates",
+                keys.size(), messages.size());
+        CacheInvalidationEvent event = new CacheInvalidationEvent();
+        event.begin();
+        priceAdapter.evictCached(keys);
+        complete(event, keys, MetricsTier.L2, messages.size());
+    }
+
+    /**
+     * Broadcast side of the invalidation: every replica consumes the topic in a consumer group of its own, starting
+     * from the latest offset without ever committing, and resets what only it holds: its in-process tier, the
+     * generations of the products and, when enabled, the in-memory index. The shared tier is evicted here too, so a local miss never promotes
+     * an entry the service-wide group has not deleted yet. Full-payload events are applied in place in the
+     * in-process tier and the index, without a database read; the rest are evicted and reloaded on demand. A
+     * full payload with a malformed row is logged and evicted as well, so one bad event never fails the whole poll.
+     * The time from publication to eviction is recorded.
+     * @param messages   The event payloads of one poll.
+     * @param timestamps The record timestamps, in the order of the messages.
+     */
+    @KafkaListener(id = "priceUpdatesNode", topics = "${kafka.topic-name}", groupId = "${kafka.node-group-id}",
+            batch = "true", properties = {"auto.offset.reset=latest", "enable.auto.commit=false"},
+            containerPostProcessor = "nodeContainerPostProcessor")
+    public void handleNodeUpdates(List<PriceUpdateMessage> messages,
+                                  @Header(KafkaHeaders.RECEIVED_TIMESTAMP) List<Long> timestamps) {
+        long start = System.nanoTime();
+        Map<PriceKey, PriceUpdateMessage> latest = latestByKey(messages);
+        Map<PriceKey, List<Price>> snapshots = snapshots(latest);
+        Set<PriceKey> evicted = evicted(latest, snapshots);
+        CacheInvalidationEvent event = new CacheInvalidationEvent();
+        event.begin();
+        if (!evicted.isEmpty()) priceAdapter.invalidatePrices(evicted);
+        if (!snapshots.isEmpty()) priceAdapter.upsertPrices(snapshots);
+        priceIndex.ifAvailable(index -> {
+            snapshots.forEach((key, prices) -> index.replace(key.productId(), key.brandId(), prices));
+            perKey(evicted, key -> index.refresh(key.productId(), key.brandId()));
+        });
+        complete(event, latest.keySet(), MetricsTier.L1, messages.size());
+        metrics.recordUpdateBatch(messages.size(), latest.size(), System.nanoTime() - start);
+        long now = System.currentTimeMillis();
+        timestamps.forEach(timestamp -> metrics.recordEvictionLag(now - timestamp));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lanes.shutdownNow();
+    }
 
     /**
-     * This method ensures that the distributed cache is cleared when an external price update event is received.
-     * @param message The event payload containing product and brand identifiers.
+     * The last event of each product and brand in the batch, in order of first appearance. Events missing either id
+     * name no cached entry, so they are logged and skipped instead of failing the whole poll.
      */
-    @KafkaListener(topics = "${kafka.topic-name}", groupId = "price-service-group")
-    public void handlePriceUpdate(PriceUpdateMessage message) {
-        log.info("Kafka Event: Invalidating cache for product {} due to external update", message.productId());
-        priceAdapter.invalidatePrice(message.date(), message.productId(), message.brandId());
+    private static Map<PriceKey, PriceUpdateMessage> latestByKey(List<PriceUpdateMessage> messages) {
+        Map<PriceKey, PriceUpdateMessage> latest = new LinkedHashMap<>();
+        messages.forEach(message -> {
+            if (message.productId() == null || message.brandId() == null) {
+                log.warn("Kafka Event: Skipping price update without ids, product: {} - brand: {}",
+                        message.productId(), message.brandId());
+                return;
+            }
+            latest.put(new PriceKey(message.productId(), message.brandId()), message);
+        });
+        return latest;
+    }
+
+    private static void complete(CacheInvalidationEvent event, Set<PriceKey> keys, MetricsTier tier, int events) {
+        PriceKey sample = keys.isEmpty() ? null : keys.iterator().next();
+        event.complete(sample == null ? null : sample.productId(), sample == null ? null : sample.brandId(), tier,
+                events, keys.size());
+    }
+
+    private static Map<PriceKey, List<Price>> snapshots(Map<PriceKey, PriceUpdateMessage> latest) {
+        Map<PriceKey, List<Price>> snapshots = new LinkedHashMap<>();
+        latest.forEach((key, message) -> {
+            if (!message.hasFullPayload()) return;
+            if (message.hasValidPayload()) {
+                snapshots.put(key, message.toDomainPrices());
+            } else {
+                log.warn("Kafka Event: Malformed price payload for product: {} - brand: {}, evicting it instead",
+                        key.productId(), key.brandId());
+            }
+        });
+        return snapshots;
+    }
+
+    private static Set<PriceKey> evicted(Map<PriceKey, PriceUpdateMessage> latest,
+                                         Map<PriceKey, List<Price>> snapshots) {
+        Set<PriceKey> evicted = new LinkedHashSet<>(latest.keySet());
+        evicted.removeAll(snapshots.keySet());
+        return evicted;
+    }
+
+    /**
+     * Runs the work of each key on its own virtual thread, at most {@code kafka.lane-concurrency} at a time, so a
+     * slow product does not hold back the rest of the batch. Keys are distinct within a batch and the batch is only
+     * acknowledged once every lane has finished, so the updates of a product are still applied in order.
+     */
+    private void perKey(Set<PriceKey> keys, Consumer<PriceKey> work) {
+        CompletableFuture<?>[] lanesOfBatch = keys.stream()
+                .map(key -> CompletableFuture.runAsync(() -> runWithPermit(key, work), lanes))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(lanesOfBatch).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private void runWithPermit(PriceKey key, Consumer<PriceKey> work) {
+        lanePermits.acquireUninterruptibly();
+        try {
+            work.accept(key);
+        } finally {
+            lanePermits.release();
+        }
     }
 }
@@ -1,18 +1,59 @@
 package com.inditex.prices.infrastructure.adapter.in.kafka;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.inditex.prices.domain.model.Price;
 import lombok.Builder;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Object representing a price update event message.
  * Used for asynchronous communication and distributed cache invalidation.
+ * An update without {@code from} and {@code to} applies to the whole product; with them, to the windows of that
+ * range. The cache holds one compiled timeline per product, so both scopes evict that single entry.
+ * A full-payload event also carries every price window of the product after the change, and is written into the
+ * cache tiers and the index instead of evicting them.
+ *
+ * @param date   Date of the change.
+ * @param from   Optional inclusive start of the changed range.
+ * @param to     Optional inclusive end of the changed range.
+ * @param prices Optional complete set of price windows of the product; an empty list means it has no prices left.
  */
-@Builder
+@Builder(toBuilder = true)
 public record PriceUpdateMessage(
         Long productId,
         Long brandId,
         @JsonFormat(pattern = "yyyy-MM-dd-HH.mm.ss")
-        LocalDateTime date
-) {}
+        LocalDateTime date,
+        @JsonFormat(pattern = "yyyy-MM-dd-HH.mm.ss")
+        LocalDateTime from,
+        @JsonFormat(pattern = "yyyy-MM-dd-HH.mm.ss")
+        LocalDateTime to,
+        List<PriceRowMessage> prices
+) {
+    /**
+     * Record key of the event, {@code brandId:productId}. Updates of a product share a partition and stay ordered.
+     */
+    public String key() {
+        return brandId + ":" + productId;
+    }
+
+    public boolean hasFullPayload() {
+        return prices != null;
+    }
+
+    /**
+     * Whether every price window of a full-payload event is valid. A null row counts as invalid.
+     */
+    public boolean hasValidPayload() {
+        return prices.stream().allMatch(row -> row != null && row.hasValidWindow());
+    }
+
+    /**
+     * The price windows of a full-payload event as domain prices. Check {@link #hasValidPayload()} first.
+     */
+    public List<Price> toDomainPrices() {
+        return prices.stream().map(row -> row.toDomain(productId, brandId)).toList();
+    }
+}
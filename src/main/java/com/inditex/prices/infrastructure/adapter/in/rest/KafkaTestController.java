@@ -22,13 +22,13 @@ public class KafkaTestController {
     private final KafkaProperties kafkaProperties;
 
     /**
-     * Publishes a price update event to the configured Kafka topic.
+     * Publishes a price update event to the configured Kafka topic, keyed by brand and product.
      * @param message The price update details to be sent as a message.
      * @return A response entity confirming the message dispatch.
      */
     @PostMapping("/publish")
     public ResponseEntity<String> publish(@RequestBody PriceUpdateMessage message) {
-        kafkaTemplate.send(kafkaProperties.getTopicName(), message);
+        kafkaTemplate.send(kafkaProperties.getTopicName(), message.key(), message);
         return ResponseEntity.ok("Message sent to kafka.");
     }
 }
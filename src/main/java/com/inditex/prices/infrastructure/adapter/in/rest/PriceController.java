@@ -2,25 +2,38 @@ package com.inditex.prices.infrastructure.adapter.in.rest;
 
 import com.inditex.prices.application.usecase.PriceUseCase;
 import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.infrastructure.adapter.in.rest.dto.PriceBatchItemResponse;
+import com.inditex.prices.infrastructure.adapter.in.rest.dto.PriceBatchRequest;
 import com.inditex.prices.infrastructure.adapter.in.rest.dto.PriceResponse;
 import com.inditex.prices.infrastructure.adapter.in.rest.error.ErrorResponse;
+import com.inditex.prices.infrastructure.config.ResponseCacheProperties;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/v1/prices")
@@ -28,10 +41,13 @@ import java.time.LocalDateTime;
 @Validated
 public class PriceController {
     private final PriceUseCase priceUseCase;
+    private final PriceResponseCache responseCache;
+    private final ResponseCacheProperties responseCacheProperties;
 
     @Operation(description = "Returns the final price for a given product, brand, and date based on priority rules.")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved the price",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = PriceResponse.class)))
+    @ApiResponse(responseCode = "304", description = "Price unchanged since the ETag sent in If-None-Match")
     @ApiResponse(responseCode = "400", description = "Invalid input parameters",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "404", description = "Price not found for the given criteria",
@@ -39,7 +55,7 @@ public class PriceController {
     @ApiResponse(responseCode = "500", description = "Internal server error",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     @GetMapping
-    public ResponseEntity<PriceResponse> getPrice(
+    public ResponseEntity<byte[]> getPrice(
             @Parameter(description = "Request date in format yyyy-MM-dd-HH.mm.ss", example = "2020-06-14-10.00.00",
                     required = true) @RequestParam @NotNull(message = "date is required")
             @DateTimeFormat(pattern = "yyyy-MM-dd-HH.mm.ss") LocalDateTime date,
@@ -50,6 +66,32 @@ public class PriceController {
             @RequestParam @NotNull(message = "Brand ID is required")
             @Positive(message = "Brand ID must be positive") Long brandId) {
         Price price = priceUseCase.getPrice(date, productId, brandId);
-        return ResponseEntity.ok(PriceResponse.fromDomain(price));
+        PriceResponseCache.Rendered rendered = responseCache.render(price);
+        return ResponseEntity.ok()
+                .eTag(rendered.etag())
+                .cacheControl(CacheControl.maxAge(responseCacheProperties.getMaxAge()).cachePublic())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(rendered.body());
+    }
+
+    @Operation(description = "Returns the final prices of many product, brand and date searches in a single call. "
+            + "Results keep the request order and carry a per-item status (200 found, 404 not found).")
+    @ApiResponse(responseCode = "200", description = "Batch resolved",
+            content = @Content(mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = PriceBatchItemResponse.class))))
+    @ApiResponse(responseCode = "400", description = "Invalid batch request",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Internal server error",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    @PostMapping("/batch")
+    public ResponseEntity<List<PriceBatchItemResponse>> getPrices(@RequestBody @Valid PriceBatchRequest request) {
+        List<PriceQuery> queries = request.items().stream().map(PriceBatchRequest.Item::toQuery).toList();
+        List<Optional<Price>> prices = priceUseCase.getPrices(queries);
+
+        List<PriceBatchItemResponse> response = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            response.add(PriceBatchItemResponse.of(queries.get(i), prices.get(i).orElse(null)));
+        }
+        return ResponseEntity.ok(response);
     }
 }
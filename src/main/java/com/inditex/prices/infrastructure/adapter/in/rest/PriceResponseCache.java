@@ -0,0 +1,71 @@
+package com.inditex.prices.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.infrastructure.adapter.in.rest.dto.PriceResponse;
+import com.inditex.prices.infrastructure.config.ResponseCacheProperties;
+import com.inditex.prices.infrastructure.monitoring.RequestTrace;
+import org.springframework.stereotype.Component;
+
+import java.util.zip.CRC32C;
+
+/**
+ * Keeps the serialized JSON body of each resolved price and its ETag, so a cache hit is written without building
+ * the DTO or running Jackson again.
+ * Bodies are keyed by the identity of the {@link Price} instance held by the cached timeline and are weakly
+ * referenced: when an update event evicts the timeline, its prices become unreachable and their bodies go with them,
+ * so a body can never outlive the price it was rendered from.
+ */
+@Component
+public class PriceResponseCache {
+    private final ObjectMapper objectMapper;
+    private final ResponseCacheProperties properties;
+    private final Cache<Price, Rendered> bodies;
+
+    /**
+     * Rendered price response.
+     *
+     * @param body The UTF-8 JSON body.
+     * @param etag Strong entity tag built from the price list and a checksum of the body, identical on every replica.
+     */
+    public record Rendered(
+            byte[] body,
+            String etag
+    ) {}
+
+    public PriceResponseCache(ObjectMapper objectMapper, ResponseCacheProperties properties) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.bodies = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(properties.getMaxSize())
+                .build();
+    }
+
+    /**
+     * @return The rendered price response.
+     */
+    public Rendered render(Price price) {
+        long start = System.nanoTime();
+        try {
+            if (!properties.isEnabled()) return serialize(price);
+            return bodies.get(price, this::serialize);
+        } finally {
+            RequestTrace.render(System.nanoTime() - start);
+        }
+    }
+
+    private Rendered serialize(Price price) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(PriceResponse.fromDomain(price));
+            CRC32C checksum = new CRC32C();
+            checksum.update(body);
+            return new Rendered(body, "\"" + price.priceList() + "-" + Long.toHexString(checksum.getValue()) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not write price response", e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.inditex.prices.infrastructure.adapter.in.rest;
+
+import com.inditex.prices.infrastructure.monitoring.RequestTrace;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Opens a {@link RequestTrace} around every price request and writes its {@code Server-Timing} and {@code X-Cache}
+ * headers. The response is buffered until the chain returns, so the headers reach bodiless responses such as a
+ * {@code 304 Not Modified} as well, and the total includes serialization.
+ */
+@Component
+@ConditionalOnProperty(prefix = "server-timing", name = "enabled", havingValue = "true")
+public class ServerTimingFilter extends OncePerRequestFilter {
+    static final String SERVER_TIMING = "Server-Timing";
+    static final String X_CACHE = "X-Cache";
+    private static final String PRICES_PATH = "/v1/prices";
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(PRICES_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        RequestTrace trace = RequestTrace.begin();
+        try {
+            filterChain.doFilter(request, buffered);
+        } finally {
+            RequestTrace.end();
+            if (!buffered.isCommitted()) {
+                buffered.setHeader(SERVER_TIMING, trace.serverTiming());
+                String cacheStatus = trace.cacheStatus();
+                if (cacheStatus != null) buffered.setHeader(X_CACHE, cacheStatus);
+            }
+            buffered.copyBodyToResponse();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.inditex.prices.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceQuery;
+import lombok.Builder;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Result of one search of a batch: the price found (status 200) or a not found status (404).
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PriceBatchItemResponse(
+        @JsonFormat(pattern = "yyyy-MM-dd-HH.mm.ss")
+        LocalDateTime date,
+        Long productId,
+        Long brandId,
+        int status,
+        PriceResponse price
+) {
+    /**
+     * Maps the result of a search to its batch item.
+     *
+     * @param query the search criteria
+     * @param price the price found, or null if there is none
+     * @return the batch item for API output
+     */
+    public static PriceBatchItemResponse of(PriceQuery query, Price price) {
+        return PriceBatchItemResponse.builder()
+                .date(query.date())
+                .productId(query.productId())
+                .brandId(query.brandId())
+                .status(price != null ? HttpStatus.OK.value() : HttpStatus.NOT_FOUND.value())
+                .price(PriceResponse.fromDomain(price))
+                .build();
+    }
+}
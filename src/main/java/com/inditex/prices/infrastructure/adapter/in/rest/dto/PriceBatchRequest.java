@@ -0,0 +1,42 @@
+package com.inditex.prices.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.inditex.prices.domain.model.PriceQuery;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Batch of price searches resolved in a single request.
+ */
+@Builder
+public record PriceBatchRequest(
+        @NotEmpty(message = "items must not be empty")
+        @Size(max = PriceBatchRequest.MAX_ITEMS, message = "items must not exceed " + PriceBatchRequest.MAX_ITEMS)
+        List<@Valid @NotNull(message = "item must not be null") Item> items
+) {
+    public static final int MAX_ITEMS = 500;
+
+    @Builder
+    public record Item(
+            @NotNull(message = "date is required")
+            @JsonFormat(pattern = "yyyy-MM-dd-HH.mm.ss")
+            LocalDateTime date,
+            @NotNull(message = "Product ID is required")
+            @Positive(message = "Product ID must be positive")
+            Long productId,
+            @NotNull(message = "Brand ID is required")
+            @Positive(message = "Brand ID must be positive")
+            Long brandId
+    ) {
+        public PriceQuery toQuery() {
+            return new PriceQuery(date, productId, brandId);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import com.inditex.prices.domain.model.PriceTimeline;
+
+import java.time.Duration;
+
+/**
+ * Time to live of a cache entry. Empty timelines are tombstones for products without prices:
+ * they are kept for a shorter time so a product created without an update event is not hidden for long.
+ * A timeline holds every window of its product, so it never goes stale when one window ends and another starts;
+ * it only changes on a price write, which evicts it. The TTL of a timeline is therefore just an upper bound
+ * that limits how long a missed update event can be served, not a validity period.
+ *
+ * @param ttl         Upper bound for timelines holding prices.
+ * @param negativeTtl TTL of tombstones.
+ */
+public record EntryTtl(Duration ttl, Duration negativeTtl) {
+
+    public Duration of(Object value) {
+        return (value instanceof PriceTimeline timeline && timeline.isEmpty()) ? negativeTtl : ttl;
+    }
+}
@@ -0,0 +1,32 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import com.inditex.prices.domain.model.PriceKey;
+
+import java.util.List;
+
+/**
+ * Snapshot of the most requested products, kept outside the JVM so a new replica can warm up with them.
+ */
+public interface HotKeySnapshot {
+
+    /**
+     * Snapshot that keeps nothing, for profiles without a shared store.
+     */
+    HotKeySnapshot NONE = new HotKeySnapshot() {
+        @Override
+        public List<PriceKey> load() {
+            return List.of();
+        }
+
+        @Override
+        public void save(List<PriceKey> keys) {
+        }
+    };
+
+    /**
+     * @return The saved keys, hottest first.
+     */
+    List<PriceKey> load();
+
+    void save(List<PriceKey> keys);
+}
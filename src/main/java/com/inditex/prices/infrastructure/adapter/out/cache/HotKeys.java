@@ -0,0 +1,28 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import com.inditex.prices.domain.model.PriceKey;
+import org.springframework.cache.Cache;
+
+import java.util.List;
+
+/**
+ * Reads the most frequently used keys of the in-process tier, ranked by Caffeine's frequency sketch.
+ */
+public final class HotKeys {
+
+    private HotKeys() {
+    }
+
+    /**
+     * @return Up to {@code limit} keys, hottest first, or an empty list if the cache has no in-process Caffeine tier.
+     */
+    public static List<PriceKey> hottest(Cache cache, int limit) {
+        if (!(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> local)) return List.of();
+        return local.policy().eviction()
+                .map(eviction -> eviction.hottest(limit).keySet().stream()
+                        .filter(PriceKey.class::isInstance)
+                        .map(PriceKey.class::cast)
+                        .toList())
+                .orElse(List.of());
+    }
+}
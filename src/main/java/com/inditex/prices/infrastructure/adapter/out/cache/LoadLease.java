@@ -0,0 +1,47 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import com.inditex.prices.domain.model.PriceKey;
+
+import java.time.Duration;
+
+/**
+ * Cluster-wide lease on the load of a cache entry, so a single node queries the database when a hot key expires.
+ */
+public interface LoadLease {
+
+    /**
+     * Lease that is always granted, for deployments where only the in-process single flight applies.
+     */
+    LoadLease NONE = new LoadLease() {
+        @Override
+        public boolean tryAcquire(PriceKey key) {
+            return true;
+        }
+
+        @Override
+        public void release(PriceKey key) {
+        }
+
+        @Override
+        public Duration maxWait() {
+            return Duration.ZERO;
+        }
+    };
+
+    /**
+     * Tries to become the loader of the key.
+     *
+     * @return true if this node must load the entry, false if another node is already loading it.
+     */
+    boolean tryAcquire(PriceKey key);
+
+    /**
+     * Releases a lease acquired by this node. Does nothing if the lease was not held.
+     */
+    void release(PriceKey key);
+
+    /**
+     * How long a node without the lease waits for the holder to publish the entry before loading it itself.
+     */
+    Duration maxWait();
+}
@@ -0,0 +1,38 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.inditex.prices.domain.model.PriceTimeline;
+import com.inditex.prices.infrastructure.config.CacheProperties;
+
+import java.time.Duration;
+
+/**
+ * Builds the bounded in-process cache tier shared by every profile.
+ * Caffeine evicts with W-TinyLFU; each entry weighs one unit plus one per price window it holds,
+ * so the maximum weight bounds both the number of products and their footprint.
+ * Tombstones of products without prices expire after the negative TTL when it is shorter.
+ */
+public final class LocalCacheBuilder {
+
+    private LocalCacheBuilder() {
+    }
+
+    public static Caffeine<Object, Object> from(CacheProperties cacheProperties) {
+        EntryTtl entryTtl = new EntryTtl(cacheProperties.getLocalTtl(),
+                min(cacheProperties.getLocalTtl(), cacheProperties.getNegativeTtl()));
+        return Caffeine.newBuilder()
+                .maximumWeight(cacheProperties.getLocalMaxWeight())
+                .weigher((key, value) -> weigh(value))
+                .expireAfter(Expiry.writing((key, value) -> entryTtl.of(value)))
+                .recordStats();
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static int weigh(Object value) {
+        return (value instanceof PriceTimeline timeline) ? timeline.prices().size() + 1 : 1;
+    }
+}
@@ -0,0 +1,28 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Collection;
+
+/**
+ * Cache able to evict many keys in a single operation.
+ */
+public interface MultiEvictCache {
+
+    /**
+     * Removes the given keys. Keys without a value are ignored.
+     */
+    void evictAll(Collection<?> keys);
+
+    /**
+     * Evicts many keys from any Spring cache, in one operation when the cache supports it
+     * or key by key otherwise.
+     */
+    static void multiEvict(Cache cache, Collection<?> keys) {
+        if (cache instanceof MultiEvictCache multiEvictCache) {
+            multiEvictCache.evictAll(keys);
+            return;
+        }
+        keys.forEach(cache::evict);
+    }
+}
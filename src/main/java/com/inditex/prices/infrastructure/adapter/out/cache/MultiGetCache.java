@@ -0,0 +1,33 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache able to read many keys in a single operation.
+ */
+public interface MultiGetCache {
+
+    /**
+     * Returns the cached values of the given keys. Keys without a value are absent from the result.
+     */
+    Map<Object, Object> getAll(Collection<?> keys);
+
+    /**
+     * Reads many keys from any Spring cache, in one operation when the cache supports it
+     * or key by key otherwise.
+     */
+    static Map<Object, Object> multiGet(Cache cache, Collection<?> keys) {
+        if (cache instanceof MultiGetCache multiGetCache) return multiGetCache.getAll(keys);
+
+        Map<Object, Object> found = new HashMap<>();
+        for (Object key : keys) {
+            Cache.ValueWrapper wrapper = cache.get(key);
+            if (wrapper != null && wrapper.get() != null) found.put(key, wrapper.get());
+        }
+        return found;
+    }
+}
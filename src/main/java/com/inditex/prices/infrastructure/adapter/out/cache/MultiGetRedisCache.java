@@ -0,0 +1,75 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis cache that reads many keys with a single MGET round trip and evicts them with a single DEL.
+ * Both bypass the cache writer, so they record their gets, hits, misses and deletes in the writer's statistics
+ * collector themselves.
+ */
+public class MultiGetRedisCache extends RedisCache implements MultiGetCache, MultiEvictCache {
+    private final RedisConnectionFactory connectionFactory;
+    private final CacheStatisticsCollector statistics;
+
+    public MultiGetRedisCache(String name, RedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfiguration,
+                              RedisConnectionFactory connectionFactory, CacheStatisticsCollector statistics) {
+        super(name, cacheWriter, cacheConfiguration);
+        this.connectionFactory = connectionFactory;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        if (keys.isEmpty()) return Map.of();
+
+        List<?> keyList = List.copyOf(keys);
+        byte[][] rawKeys = rawKeys(keyList);
+
+        List<byte[]> rawValues;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            rawValues = connection.stringCommands().mGet(rawKeys);
+        }
+
+        Map<Object, Object> found = new HashMap<>();
+        for (int i = 0; rawValues != null && i < rawValues.size(); i++) {
+            byte[] rawValue = rawValues.get(i);
+            Object value = (rawValue != null) ? fromStoreValue(deserializeCacheValue(rawValue)) : null;
+            if (value != null) found.put(keyList.get(i), value);
+        }
+        for (Object key : keyList) {
+            statistics.incGets(getName());
+            if (found.containsKey(key)) {
+                statistics.incHits(getName());
+            } else {
+                statistics.incMisses(getName());
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void evictAll(Collection<?> keys) {
+        if (keys.isEmpty()) return;
+
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.keyCommands().del(rawKeys(keys));
+        }
+        statistics.incDeletesBy(getName(), keys.size());
+    }
+
+    private byte[][] rawKeys(Collection<?> keys) {
+        return keys.stream()
+                .map(key -> serializeCacheKey(createCacheKey(key)))
+                .toArray(byte[][]::new);
+    }
+}
@@ -0,0 +1,32 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * Redis cache manager whose caches support multi-key reads.
+ */
+public class MultiGetRedisCacheManager extends RedisCacheManager {
+    private final RedisConnectionFactory connectionFactory;
+    private final CacheStatisticsCollector statistics;
+
+    /**
+     * @param statistics The collector the cache writer records into, shared with the multi-key operations.
+     */
+    public MultiGetRedisCacheManager(RedisCacheWriter cacheWriter, RedisCacheConfiguration defaultCacheConfiguration,
+                                     RedisConnectionFactory connectionFactory, CacheStatisticsCollector statistics) {
+        super(cacheWriter, defaultCacheConfiguration);
+        this.connectionFactory = connectionFactory;
+        this.statistics = statistics;
+    }
+
+    @Override
+    protected RedisCache createRedisCache(String name, RedisCacheConfiguration cacheConfiguration) {
+        RedisCacheConfiguration config = (cacheConfiguration != null) ? cacheConfiguration : getDefaultCacheConfiguration();
+        return new MultiGetRedisCache(name, getCacheWriter(), config, connectionFactory, statistics);
+    }
+}
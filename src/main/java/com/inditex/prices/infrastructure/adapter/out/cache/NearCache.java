@@ -0,0 +1,19 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import java.util.Collection;
+
+/**
+ * Cache with an in-process tier in front of a shared one, whose tiers can be written separately.
+ */
+public interface NearCache {
+
+    /**
+     * Writes a value to the in-process tier only.
+     */
+    void putLocal(Object key, Object value);
+
+    /**
+     * Removes the given keys from the shared tier only.
+     */
+    void evictAllRemote(Collection<?> keys);
+}
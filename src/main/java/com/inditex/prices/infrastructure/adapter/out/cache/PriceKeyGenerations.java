@@ -0,0 +1,50 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import com.inditex.prices.domain.model.PriceKey;
+import org.springframework.cache.Cache;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Generation counters per product and brand, bumped by every update event before the product is evicted.
+ * A load captures the generation before reading the database and only publishes its result if the generation is
+ * unchanged, so a load that raced with an update cannot put the old prices back into the cache.
+ * Counters are striped over a fixed array: keys sharing a stripe only cost an extra skipped write.
+ */
+@Component
+public class PriceKeyGenerations {
+    private static final int STRIPES = 1 << 12;
+
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    public long current(PriceKey key) {
+        return generations.get(stripe(key));
+    }
+
+    /**
+     * Starts a new generation of the key. Called before the key is evicted.
+     */
+    public void bump(PriceKey key) {
+        generations.incrementAndGet(stripe(key));
+    }
+
+    /**
+     * Writes a loaded value to the cache if no update arrived since the load started. The generation is checked
+     * again after the write, and the entry is evicted if an update slipped in between.
+     *
+     * @return Whether the value stayed in the cache.
+     */
+    public boolean putIfCurrent(Cache cache, PriceKey key, Object value, long generation) {
+        if (current(key) != generation) return false;
+        cache.put(key, value);
+        if (current(key) == generation) return true;
+        cache.evict(key);
+        return false;
+    }
+
+    private static int stripe(PriceKey key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+}
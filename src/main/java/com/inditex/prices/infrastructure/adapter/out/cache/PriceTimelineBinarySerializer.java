@@ -0,0 +1,188 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceTimeline;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Versioned binary Redis serializer for price timelines.
+ * The product and brand are written once, and each window as variable-length integers: epoch seconds and nanos for
+ * the dates (the end as a delta from the start), the unscaled price and its scale, and an index for the currency.
+ * <p>
+ * Entries written by {@link PriceTimelineJsonSerializer} are still read, so Redis can be shared with replicas of the
+ * previous version during a rollout. Timelines the binary layout cannot hold (missing fields, prices of several
+ * products, an unscaled price beyond a long) are written as JSON as well.
+ */
+public class PriceTimelineBinarySerializer implements RedisSerializer<PriceTimeline> {
+    static final byte VERSION_1 = (byte) 0xB1;
+
+    /**
+     * Append-only: the position of a currency is part of the stored format.
+     */
+    private static final List<String> CURRENCIES = List.of(
+            "EUR", "USD", "GBP", "CHF", "PLN", "SEK", "NOK", "DKK", "CZK", "HUF", "RON", "TRY",
+            "MXN", "BRL", "CNY", "JPY", "KRW", "CAD", "AUD");
+    private static final int OTHER_CURRENCY = 0xFF;
+
+    private final PriceTimelineJsonSerializer jsonSerializer;
+
+    public PriceTimelineBinarySerializer(PriceTimelineJsonSerializer jsonSerializer) {
+        this.jsonSerializer = jsonSerializer;
+    }
+
+    @Override
+    public byte[] serialize(PriceTimeline timeline) {
+        if (timeline == null) return new byte[0];
+        List<Price> prices = timeline.prices();
+        if (!isEncodable(prices)) return jsonSerializer.serialize(timeline);
+
+        Writer out = new Writer(16 + prices.size() * 24);
+        out.writeByte(VERSION_1);
+        out.writeVarLong(prices.isEmpty() ? 0 : prices.getFirst().productId());
+        out.writeVarLong(prices.isEmpty() ? 0 : prices.getFirst().brandId());
+        out.writeVarLong(prices.size());
+        for (Price price : prices) {
+            long start = price.startDate().toEpochSecond(ZoneOffset.UTC);
+            out.writeVarLong(price.priceList());
+            out.writeVarLong(price.priority());
+            out.writeVarLong(start);
+            out.writeVarLong(price.startDate().getNano());
+            out.writeVarLong(price.endDate().toEpochSecond(ZoneOffset.UTC) - start);
+            out.writeVarLong(price.endDate().getNano());
+            out.writeVarLong(price.price().unscaledValue().longValueExact());
+            out.writeVarLong(price.price().scale());
+            int currency = CURRENCIES.indexOf(price.currency());
+            if (currency < 0) {
+                out.writeByte((byte) OTHER_CURRENCY);
+                out.writeString(price.currency());
+            } else {
+                out.writeByte((byte) currency);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public PriceTimeline deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) return null;
+        if (bytes[0] != VERSION_1) return jsonSerializer.deserialize(bytes);
+
+        try {
+            Reader in = new Reader(bytes);
+            in.readByte();
+            long productId = in.readVarLong();
+            long brandId = in.readVarLong();
+            int count = Math.toIntExact(in.readVarLong());
+            List<Price> prices = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int priceList = Math.toIntExact(in.readVarLong());
+                int priority = Math.toIntExact(in.readVarLong());
+                long start = in.readVarLong();
+                int startNano = Math.toIntExact(in.readVarLong());
+                long end = start + in.readVarLong();
+                int endNano = Math.toIntExact(in.readVarLong());
+                BigDecimal amount = BigDecimal.valueOf(in.readVarLong(), Math.toIntExact(in.readVarLong()));
+                int currency = in.readByte() & 0xFF;
+                prices.add(Price.builder()
+                        .productId(productId)
+                        .brandId(brandId)
+                        .priceList(priceList)
+                        .priority(priority)
+                        .startDate(LocalDateTime.ofEpochSecond(start, startNano, ZoneOffset.UTC))
+                        .endDate(LocalDateTime.ofEpochSecond(end, endNano, ZoneOffset.UTC))
+                        .price(amount)
+                        .currency(currency == OTHER_CURRENCY ? in.readString() : CURRENCIES.get(currency))
+                        .build());
+            }
+            return PriceTimeline.compile(prices);
+        } catch (RuntimeException ex) {
+            throw new SerializationException("Could not read binary price timeline", ex);
+        }
+    }
+
+    private static boolean isEncodable(List<Price> prices) {
+        if (prices.isEmpty()) return true;
+        Price first = prices.getFirst();
+        if (first.productId() == null || first.brandId() == null) return false;
+        for (Price price : prices) {
+            if (!Objects.equals(price.productId(), first.productId()) || !Objects.equals(price.brandId(), first.brandId())
+                    || price.priceList() == null || price.priority() == null || price.startDate() == null
+                    || price.endDate() == null || price.price() == null || price.currency() == null
+                    || price.price().unscaledValue().bitLength() > 63) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Zig-zag encoded variable-length integers, so small negative values stay short too.
+     */
+    private static final class Writer extends ByteArrayOutputStream {
+
+        Writer(int size) {
+            super(size);
+        }
+
+        void writeByte(byte value) {
+            write(value);
+        }
+
+        void writeVarLong(long value) {
+            long zigzag = (value << 1) ^ (value >> 63);
+            while ((zigzag & ~0x7FL) != 0) {
+                write((int) ((zigzag & 0x7F) | 0x80));
+                zigzag >>>= 7;
+            }
+            write((int) zigzag);
+        }
+
+        void writeString(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(utf8.length);
+            writeBytes(utf8);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        byte readByte() {
+            if (position >= bytes.length) throw new IllegalStateException("Truncated price timeline");
+            return bytes[position++];
+        }
+
+        long readVarLong() {
+            long zigzag = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                zigzag |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+            throw new IllegalStateException("Malformed variable-length integer");
+        }
+
+        String readString() {
+            int length = Math.toIntExact(readVarLong());
+            if (length < 0 || position + length > bytes.length) throw new IllegalStateException("Truncated price timeline");
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
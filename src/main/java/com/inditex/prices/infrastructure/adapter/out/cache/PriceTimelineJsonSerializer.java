@@ -0,0 +1,46 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceTimeline;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Redis serializer that stores the source price windows of a timeline as a JSON array.
+ * The timeline is compiled again when the entry is read.
+ */
+public class PriceTimelineJsonSerializer implements RedisSerializer<PriceTimeline> {
+    private final ObjectMapper objectMapper;
+    private final JavaType pricesType;
+
+    public PriceTimelineJsonSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.pricesType = objectMapper.getTypeFactory().constructCollectionType(List.class, Price.class);
+    }
+
+    @Override
+    public byte[] serialize(PriceTimeline timeline) {
+        if (timeline == null) return new byte[0];
+        try {
+            return objectMapper.writeValueAsBytes(timeline.prices());
+        } catch (IOException ex) {
+            throw new SerializationException("Could not write price timeline", ex);
+        }
+    }
+
+    @Override
+    public PriceTimeline deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) return null;
+        try {
+            List<Price> prices = objectMapper.readValue(bytes, pricesType);
+            return PriceTimeline.compile(prices);
+        } catch (IOException ex) {
+            throw new SerializationException("Could not read price timeline", ex);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import com.inditex.prices.domain.model.PriceKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Hot key snapshot stored in Redis as a single {@code productId:brandId} list, shared by every replica.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisHotKeySnapshot implements HotKeySnapshot {
+    private static final String KEY = "priceTimeline::hot-keys";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public List<PriceKey> load() {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY);
+            if (value == null || value.isBlank()) return List.of();
+            return Arrays.stream(value.split(",")).map(PriceKey::parse).toList();
+        } catch (RuntimeException e) {
+            log.warn("Hot key snapshot not loaded: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    @Override
+    public void save(List<PriceKey> keys) {
+        if (keys.isEmpty()) return;
+        try {
+            redisTemplate.opsForValue().set(KEY, keys.stream()
+                    .map(key -> key.productId() + ":" + key.brandId())
+                    .collect(Collectors.joining(",")));
+        } catch (RuntimeException e) {
+            log.warn("Hot key snapshot not saved: {}", e.getMessage());
+        }
+    }
+}
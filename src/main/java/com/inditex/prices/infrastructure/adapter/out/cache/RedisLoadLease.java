@@ -0,0 +1,65 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import com.inditex.prices.domain.model.PriceKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Load lease backed by a Redis key set with NX and a TTL, so a crashed holder never blocks the key for long.
+ * If Redis cannot be reached the lease is granted, falling back to the in-process single flight.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisLoadLease implements LoadLease {
+    private static final String PREFIX = "priceTimeline::lease::";
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final Duration maxWait;
+    private final Map<PriceKey, String> tokens = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean tryAcquire(PriceKey key) {
+        String token = UUID.randomUUID().toString();
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(leaseKey(key), token, ttl))) return false;
+            tokens.put(key, token);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Load lease unavailable for product: {} - brand: {}: {}", key.productId(), key.brandId(), e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public void release(PriceKey key) {
+        String token = tokens.remove(key);
+        if (token == null) return;
+        try {
+            redisTemplate.execute(RELEASE, List.of(leaseKey(key)), token);
+        } catch (RuntimeException e) {
+            log.warn("Load lease not released for product: {} - brand: {}, it expires in {}", key.productId(), key.brandId(), ttl);
+        }
+    }
+
+    @Override
+    public Duration maxWait() {
+        return maxWait;
+    }
+
+    private static String leaseKey(PriceKey key) {
+        return PREFIX + key.productId() + ":" + key.brandId();
+    }
+}
@@ -0,0 +1,136 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import com.inditex.prices.infrastructure.monitoring.MetricsRecorder;
+import com.inditex.prices.infrastructure.monitoring.MetricsTier;
+import com.inditex.prices.infrastructure.monitoring.RequestTrace;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Cache with a bounded in-process tier (L1) in front of a shared remote tier (L2).
+ * Reads try L1 first and promote L2 hits into it, while writes and evictions go to both tiers unless a single tier
+ * is addressed through {@link NearCache}.
+ * The read latency of each tier is recorded separately.
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache implements MultiGetCache, MultiEvictCache, NearCache {
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private final Cache remote;
+    private final MetricsRecorder metrics;
+
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> local, Cache remote,
+                         MetricsRecorder metrics) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        long start = System.nanoTime();
+        Object value = local.getIfPresent(key);
+        long localEnd = System.nanoTime();
+        metrics.recordLatency(MetricsTier.L1, localEnd - start);
+        if (value != null) return value;
+
+        ValueWrapper wrapper = remote.get(key);
+        metrics.recordLatency(MetricsTier.L2, System.nanoTime() - localEnd);
+        value = (wrapper != null) ? wrapper.get() : null;
+        if (value != null) {
+            RequestTrace.servedFrom(MetricsTier.L2);
+            local.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Reads the keys present in L1 and fetches the rest from L2 in a single operation, promoting the hits.
+     */
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        long start = System.nanoTime();
+        Map<Object, Object> found = new HashMap<>(local.getAllPresent(keys));
+        long localEnd = System.nanoTime();
+        metrics.recordLatency(MetricsTier.L1, localEnd - start);
+        List<?> missing = keys.stream().filter(key -> !found.containsKey(key)).toList();
+        if (missing.isEmpty()) return found;
+
+        Map<Object, Object> remoteHits = MultiGetCache.multiGet(remote, missing);
+        metrics.recordLatency(MetricsTier.L2, System.nanoTime() - localEnd);
+        if (!remoteHits.isEmpty()) RequestTrace.servedFrom(MetricsTier.L2);
+        local.putAll(remoteHits);
+        found.putAll(remoteHits);
+        return found;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) return (T) cached.get();
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(key, toStoreValue(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(key);
+    }
+
+    /**
+     * Evicts the keys from L2 in a single operation when it supports it, then from L1.
+     */
+    @Override
+    public void evictAll(Collection<?> keys) {
+        MultiEvictCache.multiEvict(remote, keys);
+        local.invalidateAll(keys);
+    }
+
+    @Override
+    public void putLocal(Object key, Object value) {
+        local.put(key, toStoreValue(value));
+    }
+
+    @Override
+    public void evictAllRemote(Collection<?> keys) {
+        MultiEvictCache.multiEvict(remote, keys);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+    }
+}
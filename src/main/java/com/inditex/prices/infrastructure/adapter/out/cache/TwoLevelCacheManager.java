@@ -0,0 +1,60 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inditex.prices.infrastructure.monitoring.MetricsRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache manager that layers an in-process Caffeine tier over the caches of a {@link RedisCacheManager}.
+ * Hit, miss and eviction metrics are published per tier with the {@code tier} tag ({@code l1} or {@code l2}).
+ */
+public class TwoLevelCacheManager implements CacheManager {
+    private static final String TAG_TIER = "tier";
+
+    private final RedisCacheManager remoteCacheManager;
+    private final Caffeine<Object, Object> localCacheBuilder;
+    private final MeterRegistry meterRegistry;
+    private final MetricsRecorder metrics;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager remoteCacheManager, Caffeine<Object, Object> localCacheBuilder,
+                                MeterRegistry meterRegistry, MetricsRecorder metrics) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localCacheBuilder = localCacheBuilder;
+        this.meterRegistry = meterRegistry;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> local = localCacheBuilder.build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name, Tags.of(TAG_TIER, "l1"));
+        if (remote instanceof RedisCache redisCache) {
+            new RedisCacheMetrics(redisCache, Tags.of(TAG_TIER, "l2")).bindTo(meterRegistry);
+        }
+        return new TwoLevelCache(name, local, remote, metrics);
+    }
+}
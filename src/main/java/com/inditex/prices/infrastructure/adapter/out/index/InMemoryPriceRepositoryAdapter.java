@@ -0,0 +1,103 @@
+package com.inditex.prices.infrastructure.adapter.out.index;
+
+import com.inditex.prices.domain.exception.NotFoundException;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.domain.repository.PriceRepository;
+import com.inditex.prices.infrastructure.adapter.out.persistence.JpaPriceRepository;
+import com.inditex.prices.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.inditex.prices.infrastructure.monitoring.MetricsRecorder;
+import com.inditex.prices.infrastructure.monitoring.MetricsType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.inditex.prices.infrastructure.monitoring.MetricsEndpoint.PRICE_DETAIL;
+
+/**
+ * Adapter that answers price searches from an in-heap interval index.
+ * The PRICES table is loaded once at startup and each product is reloaded on update events,
+ * so the database is the source of truth but never sits on the read path.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(prefix = "index", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryPriceRepositoryAdapter implements PriceRepository {
+    private final JpaPriceRepository jpaPriceRepository;
+    private final MetricsRecorder metrics;
+    private final PriceIndex index = new PriceIndex();
+
+    /**
+     * Loads the whole PRICES table into the index once the application is ready. Update events are already being
+     * consumed by then; products they refresh while the table is read keep their refreshed windows.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        index.beginLoad();
+        metrics.recordRequest(PRICE_DETAIL.getValue(), MetricsType.DATABASE_FETCH);
+        Map<PriceKey, List<Price>> prices = jpaPriceRepository.findAll().stream()
+                .map(PriceEntity::toDomain)
+                .collect(Collectors.groupingBy(PriceKey::of));
+        index.replaceAll(prices);
+        log.info("Price index loaded with {} product/brand groups", index.size());
+    }
+
+    /**
+     * Retrieves the price from the in-memory index.
+     * @param date      The date.
+     * @param productId The product ID.
+     * @param brandId   The brand ID.
+     * @return The highest priority price active at the given date.
+     * @throws NotFoundException if price is not found for the given criteria.
+     */
+    @Override
+    public Price getPrice(LocalDateTime date, Long productId, Long brandId) {
+        return index.findTopPrice(date, new PriceKey(productId, brandId))
+                .orElseThrow(() -> new NotFoundException("Price not found for product"));
+    }
+
+    /**
+     * Resolves many searches against the in-memory index.
+     * @param queries The searches.
+     * @return The prices found, in the order of the queries.
+     */
+    @Override
+    public List<Optional<Price>> getPrices(List<PriceQuery> queries) {
+        return queries.stream()
+                .map(query -> index.findTopPrice(query.date(), query.key()))
+                .toList();
+    }
+
+    /**
+     * Reloads every window of a product and brand from the database.
+     */
+    public void refresh(Long productId, Long brandId) {
+        log.info("Refreshing price index for product: {} - brand: {}", productId, brandId);
+        metrics.recordRequest(PRICE_DETAIL.getValue(), MetricsType.DATABASE_FETCH);
+        List<Price> prices = jpaPriceRepository.findByProductIdAndBrandId(productId, brandId).stream()
+                .map(PriceEntity::toDomain)
+                .toList();
+        index.replace(new PriceKey(productId, brandId), prices);
+    }
+
+    /**
+     * Replaces every window of a product and brand with the ones carried by a full-payload update event,
+     * without reading the database.
+     */
+    public void replace(Long productId, Long brandId, List<Price> prices) {
+        index.replace(new PriceKey(productId, brandId), prices);
+    }
+}
@@ -0,0 +1,83 @@
+package com.inditex.prices.infrastructure.adapter.out.index;
+
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceTimeline;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-heap index of compiled price timelines grouped by product and brand.
+ * Priority rules are resolved when a group is loaded, so a lookup is a hash probe plus one binary search.
+ * A full load is built aside and published with a single swap, so readers never see a partially filled index.
+ */
+public class PriceIndex {
+    private volatile Map<PriceKey, PriceTimeline> timelines = new ConcurrentHashMap<>();
+    /**
+     * Groups replaced since {@link #beginLoad()}, a null value meaning removed; null when no load is running.
+     */
+    private Map<PriceKey, PriceTimeline> replacedDuringLoad;
+
+    /**
+     * Finds the highest priority price active at the given date.
+     *
+     * @param date The date.
+     * @param key  The product and brand.
+     * @return The winning price, or empty if no window covers the date.
+     */
+    public Optional<Price> findTopPrice(LocalDateTime date, PriceKey key) {
+        PriceTimeline timeline = timelines.get(key);
+        return timeline == null ? Optional.empty() : timeline.priceAt(date);
+    }
+
+    /**
+     * Replaces every window of a product and brand. An empty collection removes the group.
+     */
+    public void replace(PriceKey key, Collection<Price> prices) {
+        PriceTimeline timeline = prices.isEmpty() ? null : PriceTimeline.compile(prices);
+        synchronized (this) {
+            put(timelines, key, timeline);
+            if (replacedDuringLoad != null) replacedDuringLoad.put(key, timeline);
+        }
+    }
+
+    /**
+     * Starts recording the groups replaced from now on. Call it before reading the snapshot passed to
+     * {@link #replaceAll(Map)}, so the snapshot cannot overwrite groups updated while it was being read.
+     */
+    public synchronized void beginLoad() {
+        replacedDuringLoad = new HashMap<>();
+    }
+
+    /**
+     * Replaces the whole index content with the given groups. Groups replaced since {@link #beginLoad()} are
+     * newer than the snapshot and are kept.
+     */
+    public void replaceAll(Map<PriceKey, List<Price>> prices) {
+        Map<PriceKey, PriceTimeline> loaded = new ConcurrentHashMap<>(prices.size() * 2);
+        prices.forEach((key, windows) -> put(loaded, key, windows.isEmpty() ? null : PriceTimeline.compile(windows)));
+        synchronized (this) {
+            if (replacedDuringLoad != null) replacedDuringLoad.forEach((key, timeline) -> put(loaded, key, timeline));
+            replacedDuringLoad = null;
+            timelines = loaded;
+        }
+    }
+
+    public int size() {
+        return timelines.size();
+    }
+
+    private static void put(Map<PriceKey, PriceTimeline> timelines, PriceKey key, PriceTimeline timeline) {
+        if (timeline == null) {
+            timelines.remove(key);
+        } else {
+            timelines.put(key, timeline);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.inditex.prices.infrastructure.adapter.out.index;
+
+import com.inditex.prices.domain.model.PriceKey;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of product and brand combinations. It never answers false for a key that was added,
+ * and answers true for an absent key with the configured false positive probability.
+ * Bits are set with atomic operations, so keys can be added while other threads read.
+ */
+public class PriceKeyBloomFilter {
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicLong keyCount = new AtomicLong();
+
+    /**
+     * @param expectedKeys      Number of keys the filter is sized for.
+     * @param falsePositiveRate Target false positive probability at the expected number of keys.
+     */
+    public PriceKeyBloomFilter(long expectedKeys, double falsePositiveRate) {
+        long n = Math.max(1, expectedKeys);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.words = new AtomicLongArray(Math.toIntExact(Math.max(1, (bits + 63) / 64)));
+        this.bitCount = words.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    public void put(PriceKey key) {
+        long hash1 = hash(key);
+        long hash2 = mix(hash1);
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            changed |= (words.getAndUpdate(word, value -> value | mask) & mask) == 0;
+        }
+        if (changed) keyCount.incrementAndGet();
+    }
+
+    public boolean mightContain(PriceKey key) {
+        long hash1 = hash(key);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    /**
+     * Approximate number of distinct keys added.
+     */
+    public long keyCount() {
+        return keyCount.get();
+    }
+
+    /**
+     * False positive probability expected for the keys added so far.
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashCount * keyCount() / bitCount), hashCount);
+    }
+
+    private static long hash(PriceKey key) {
+        long productId = key.productId() == null ? 0 : key.productId();
+        return mix(mix(productId) + (key.brandId() == null ? 0 : key.brandId()));
+    }
+
+    /**
+     * SplitMix64 finalizer, spreads consecutive ids over the whole 64-bit range.
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,110 @@
+package com.inditex.prices.infrastructure.adapter.out.index;
+
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.infrastructure.adapter.out.persistence.JpaPriceRepository;
+import com.inditex.prices.infrastructure.config.KeyFilterProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Membership gate of every product and brand combination present in PRICES.
+ * Searches for combinations that are definitely absent can be rejected before reaching the cache or the database.
+ * Until the filter is built, or when it is disabled, every key is let through.
+ * Rows written after startup without an update event reaching this replica are not in the filter, so it is rebuilt
+ * every {@code key-filter.rebuild-interval}, and a sampled fraction of rejected keys is let through anyway; the
+ * ones found in the database are added back to the filter.
+ */
+@Component
+@Slf4j
+public class PriceKeyFilter {
+    private final JpaPriceRepository jpaPriceRepository;
+    private final KeyFilterProperties properties;
+    private volatile PriceKeyBloomFilter filter;
+    private volatile PriceKeyBloomFilter building;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("price-key-filter-rebuild").daemon().factory());
+
+    public PriceKeyFilter(JpaPriceRepository jpaPriceRepository, KeyFilterProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.jpaPriceRepository = jpaPriceRepository;
+        this.properties = properties;
+        Gauge.builder("price.key.filter.bits", this, gate -> gate.filter == null ? 0 : gate.filter.bitCount())
+                .description("Size of the product and brand Bloom filter")
+                .baseUnit("bits")
+                .register(meterRegistry);
+        Gauge.builder("price.key.filter.keys", this, gate -> gate.filter == null ? 0 : gate.filter.keyCount())
+                .description("Product and brand combinations added to the Bloom filter")
+                .register(meterRegistry);
+        Gauge.builder("price.key.filter.fpp", this, gate -> gate.filter == null ? 0 : gate.filter.expectedFalsePositiveRate())
+                .description("Expected false positive probability of the Bloom filter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Builds the filter from the distinct combinations in PRICES once the application is ready, and schedules
+     * its periodic rebuild.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!properties.isEnabled()) return;
+
+        rebuild();
+        long interval = properties.getRebuildInterval().toMillis();
+        if (interval > 0) scheduler.scheduleAtFixedRate(this::rebuild, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Builds a new filter from the distinct combinations in PRICES and swaps it in. Keys added while it is being
+     * built are kept. On failure the previous filter stays in place.
+     */
+    public void rebuild() {
+        try {
+            long expectedKeys = Math.max(properties.getExpectedKeys(), jpaPriceRepository.count());
+            building = new PriceKeyBloomFilter(expectedKeys, properties.getFalsePositiveRate());
+            List<PriceKey> keys = jpaPriceRepository.findDistinctKeys();
+            keys.forEach(building::put);
+            filter = building;
+            log.info("Price key filter loaded with {} product/brand combinations", keys.size());
+        } catch (RuntimeException e) {
+            log.warn("Price key filter rebuild failed, keeping the previous one: {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * @return false only if no price was loaded or published for the product and brand, and the key was not
+     * sampled to be checked against the database anyway.
+     */
+    public boolean mightContain(PriceKey key) {
+        PriceKeyBloomFilter current = filter;
+        if (current == null || current.mightContain(key)) return true;
+        return ThreadLocalRandom.current().nextDouble() < properties.getPassThroughRate();
+    }
+
+    /**
+     * Registers a combination published by a price write event or found in the database.
+     */
+    public void add(PriceKey key) {
+        PriceKeyBloomFilter next = building;
+        if (next != null) next.put(key);
+        PriceKeyBloomFilter current = filter;
+        if (current != null) current.put(key);
+    }
+}
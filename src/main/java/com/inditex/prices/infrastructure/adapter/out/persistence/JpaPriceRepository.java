@@ -1,11 +1,15 @@
 package com.inditex.prices.infrastructure.adapter.out.persistence;
 
+import com.inditex.prices.domain.model.PriceKey;
 import com.inditex.prices.infrastructure.adapter.out.persistence.entity.PriceEntity;
 import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,4 +22,24 @@ public interface JpaPriceRepository extends JpaRepository<PriceEntity, Long> {
             """)
     Optional<PriceEntity> findTopPrice(@Param("date") LocalDateTime date, @Param("productId") Long productId,
                                        @Param("brandId") Long brandId);
+
+    /**
+     * Every product and brand combination that has at least one price window.
+     */
+    @Query("SELECT DISTINCT new com.inditex.prices.domain.model.PriceKey(p.productId, p.brandId) FROM PriceEntity p")
+    List<PriceKey> findDistinctKeys();
+
+    /**
+     * At most {@code limit} product and brand combinations that have at least one price window.
+     */
+    @Query("SELECT DISTINCT new com.inditex.prices.domain.model.PriceKey(p.productId, p.brandId) FROM PriceEntity p")
+    List<PriceKey> findDistinctKeys(Limit limit);
+
+    List<PriceEntity> findByProductIdAndBrandId(Long productId, Long brandId);
+
+    /**
+     * Set-based search of every window of several products and brands. The result may also hold combinations
+     * that were not requested (a requested product under another requested brand), so callers filter by key.
+     */
+    List<PriceEntity> findByProductIdInAndBrandIdIn(Collection<Long> productIds, Collection<Long> brandIds);
 }
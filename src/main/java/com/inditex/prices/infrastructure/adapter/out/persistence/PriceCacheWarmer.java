@@ -0,0 +1,108 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence;
+
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.infrastructure.adapter.out.cache.HotKeySnapshot;
+import com.inditex.prices.infrastructure.adapter.out.cache.HotKeys;
+import com.inditex.prices.infrastructure.config.WarmUpProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.inditex.prices.infrastructure.adapter.out.persistence.PriceRepositoryAdapter.PRICE_TIMELINE_CACHE;
+
+/**
+ * Preloads the cache tiers before the replica takes traffic.
+ * Warm-up runs while the application starts, before Spring Boot switches the readiness state to
+ * ACCEPTING_TRAFFIC, so the readiness probe reports ready once it completes or its time budget runs out.
+ * Configured products go first, then the hottest products saved by previous replicas, then the whole
+ * PRICES table when it fits in {@code warm-up.max-keys}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "warm-up", name = "enabled", havingValue = "true")
+@Slf4j
+public class PriceCacheWarmer {
+    private static final int CHUNK_SIZE = 500;
+
+    private final PriceRepositoryAdapter priceAdapter;
+    private final JpaPriceRepository jpaPriceRepository;
+    private final CacheManager cacheManager;
+    private final HotKeySnapshot hotKeySnapshot;
+    private final WarmUpProperties properties;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("price-hot-key-snapshot").daemon().factory());
+
+    public PriceCacheWarmer(PriceRepositoryAdapter priceAdapter, JpaPriceRepository jpaPriceRepository,
+                            CacheManager cacheManager, HotKeySnapshot hotKeySnapshot, WarmUpProperties properties) {
+        this.priceAdapter = priceAdapter;
+        this.jpaPriceRepository = jpaPriceRepository;
+        this.cacheManager = cacheManager;
+        this.hotKeySnapshot = hotKeySnapshot;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void warmUp() {
+        long deadline = System.nanoTime() + properties.getTimeBudget().toNanos();
+        List<PriceKey> keys = selectKeys(deadline);
+        int preloaded = 0;
+        try {
+            while (preloaded < keys.size()) {
+                if (System.nanoTime() - deadline >= 0) {
+                    log.warn("Warm-up time budget of {} exhausted", properties.getTimeBudget());
+                    break;
+                }
+                List<PriceKey> chunk = keys.subList(preloaded, Math.min(keys.size(), preloaded + CHUNK_SIZE));
+                priceAdapter.preload(chunk);
+                preloaded += chunk.size();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Warm-up interrupted: {}", e.getMessage());
+        }
+        log.info("Warm-up preloaded {} of {} products", preloaded, keys.size());
+
+        long interval = properties.getSnapshotInterval().toMillis();
+        scheduler.scheduleAtFixedRate(this::saveSnapshot, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Saves the hottest products of this replica one last time before it stops.
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        saveSnapshot();
+    }
+
+    /**
+     * The products to preload, at most {@code warm-up.max-keys}. The whole table is read as one more key than
+     * fits at most, and only when the time budget is not exhausted yet.
+     */
+    List<PriceKey> selectKeys(long deadline) {
+        Set<PriceKey> keys = new LinkedHashSet<>();
+        properties.getKeys().stream().map(PriceKey::parse).forEach(keys::add);
+        keys.addAll(hotKeySnapshot.load());
+        if (System.nanoTime() - deadline < 0) {
+            List<PriceKey> all = jpaPriceRepository.findDistinctKeys(Limit.of(properties.getMaxKeys() + 1));
+            if (all.size() <= properties.getMaxKeys()) keys.addAll(all);
+        }
+        return keys.stream().limit(properties.getMaxKeys()).toList();
+    }
+
+    private void saveSnapshot() {
+        Cache cache = cacheManager.getCache(PRICE_TIMELINE_CACHE);
+        if (cache != null) hotKeySnapshot.save(HotKeys.hottest(cache, properties.getMaxKeys()));
+    }
+}
@@ -3,49 +3,97 @@ package com.inditex.prices.infrastructure.adapter.out.persistence;
 import com.inditex.prices.domain.exception.NotFoundException;
 import com.inditex.prices.domain.exception.ServiceUnavailableException;
 import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.domain.model.PriceTimeline;
 import com.inditex.prices.domain.repository.PriceRepository;
-import com.inditex.prices.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.inditex.prices.infrastructure.adapter.out.cache.LoadLease;
+import com.inditex.prices.infrastructure.adapter.out.cache.MultiEvictCache;
+import com.inditex.prices.infrastructure.adapter.out.cache.MultiGetCache;
+import com.inditex.prices.infrastructure.adapter.out.cache.NearCache;
+import com.inditex.prices.infrastructure.adapter.out.cache.PriceKeyGenerations;
+import com.inditex.prices.infrastructure.adapter.out.index.PriceKeyFilter;
 import com.inditex.prices.infrastructure.monitoring.MetricsRecorder;
+import com.inditex.prices.infrastructure.monitoring.MetricsTier;
 import com.inditex.prices.infrastructure.monitoring.MetricsType;
+import com.inditex.prices.infrastructure.monitoring.RequestTrace;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import static com.inditex.prices.infrastructure.monitoring.MetricsEndpoint.PRICE_DETAIL;
 
 /**
  * Adapter that connects the domain port with the JPA infrastructure.
+ * The whole set of price windows of a product and brand is cached once as a compiled timeline,
+ * and the requested date is resolved locally against it.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class PriceRepositoryAdapter implements PriceRepository {
-    private final JpaPriceRepository jpaPriceRepository;
+    public static final String PRICE_TIMELINE_CACHE = "priceTimeline";
+    private static final Duration LEASE_POLL_INTERVAL = Duration.ofMillis(10);
+
+    private final PriceTimelineLoader timelineLoader;
     private final MetricsRecorder metrics;
+    private final CacheManager cacheManager;
+    private final LoadLease loadLease;
+    private final PriceKeyFilter keyFilter;
+    private final PriceTimelineRefresher refresher;
+    private final PriceKeyGenerations generations;
+    private final Map<PriceKey, CompletableFuture<PriceTimeline>> inFlight = new ConcurrentHashMap<>();
 
     /**
-     * Retrieves the price from the primary persistence store and caches the result
+     * Retrieves the price from the cached timeline of the product, loading it from the primary persistence
+     * store on a cache miss.
      * @param date      The date.
      * @param productId The product ID.
      * @param brandId   The brand ID.
-     * @return The Price found in the database.
+     * @return The Price that applies at the given date.
      * @throws NotFoundException if price is not found for the given criteria.
      */
     @Override
     @CircuitBreaker(name = "pricesSearch", fallbackMethod = "handleGetPriceFailure")
-    @Cacheable(value = "priceDetail", key = "{#date, #productId, #brandId}")
     public Price getPrice(LocalDateTime date, Long productId, Long brandId) {
-        log.info("Search product: {} - on Database", productId);
-        metrics.recordRequest(PRICE_DETAIL.getValue(), MetricsType.DATABASE_FETCH);
-        return jpaPriceRepository.findTopPrice(date, productId, brandId).map(PriceEntity::toDomain)
+        if (!isKnown(new PriceKey(productId, brandId))) throw new NotFoundException("Price not found for product");
+        return getTimeline(productId, brandId).priceAt(date)
                 .orElseThrow(() -> new NotFoundException("Price not found for product"));
     }
 
+    /**
+     * Resolves many searches with one multi-get against the cache and a single set-based query for the
+     * products that are not cached.
+     * @param queries The searches.
+     * @return The prices found, in the order of the queries.
+     */
+    @Override
+    @CircuitBreaker(name = "pricesSearch", fallbackMethod = "handleGetPricesFailure")
+    public List<Optional<Price>> getPrices(List<PriceQuery> queries) {
+        Set<PriceKey> keys = queries.stream().map(PriceQuery::key).filter(this::isKnown).collect(Collectors.toSet());
+        Map<PriceKey, PriceTimeline> timelines = getTimelines(keys);
+        return queries.stream()
+                .map(query -> timelines.getOrDefault(query.key(), PriceTimeline.empty()).priceAt(query.date()))
+                .toList();
+    }
+
     /**
      * Fallback method for the price search operation.
      * Triggered when a technical failure occurs or the circuit is open.
@@ -65,12 +113,222 @@ public class PriceRepositoryAdapter implements PriceRepository {
     }
 
     /**
-     * Method for cache invalidation.
+     * Fallback method for the batch price search operation.
+     *
+     * @param queries The searches.
+     * @param t       The exception that triggered the fallback.
+     * @throws ServiceUnavailableException indicating technical service failure.
+     */
+    public List<Optional<Price>> handleGetPricesFailure(List<PriceQuery> queries, Throwable t) {
+        log.error("Circuit breaker 'pricesSearch' triggered on batch search. Technical failure: {}", t.getMessage());
+        metrics.recordRequest(PRICE_DETAIL.getValue(), MetricsType.FALLBACK);
+        throw new ServiceUnavailableException("Service unavailable. Please try again later.");
+    }
+
+    /**
+     * Method for cache invalidation. Every window of the product is evicted, whatever the date or range of the event,
+     * and so is the tombstone of a product that had no prices. The generation of the product is bumped first, so a
+     * load already in flight does not write the old prices back. The product is registered in the key filter,
+     * as the event may announce its first price.
      */
-    @CacheEvict(value = "priceDetail", key = "{#date, #productId, #brandId}")
     public void invalidatePrice(LocalDateTime date, Long productId, Long brandId) {
+        PriceKey key = new PriceKey(productId, brandId);
+        keyFilter.add(key);
+        refresher.forget(key);
+        generations.bump(key);
+        cache().evict(key);
         log.info("Cache invalidated for product: {} - brand: {} - date: {}", productId, brandId, date);
         metrics.recordRequest(PRICE_DETAIL.getValue(), MetricsType.CACHE_INVALIDATION);
     }
 
+    /**
+     * Invalidates many products at once, as {@link #invalidatePrice} does for one, evicting them from each cache
+     * tier in a single operation.
+     */
+    public void invalidatePrices(Collection<PriceKey> keys) {
+        if (keys.isEmpty()) return;
+        keys.forEach(key -> {
+            keyFilter.add(key);
+            refresher.forget(key);
+            generations.bump(key);
+        });
+        MultiEvictCache.multiEvict(cache(), keys);
+        log.info("Cache invalidated for {} products", keys.size());
+        keys.forEach(key -> metrics.recordRequest(PRICE_DETAIL.getValue(), MetricsType.CACHE_INVALIDATION));
+    }
+
+    /**
+     * Evicts products from the cache tiers only. Used by the service-wide consumer group, while the state each
+     * replica keeps for a product is reset by {@link #invalidatePrices} on every replica.
+     */
+    public void evictCached(Collection<PriceKey> keys) {
+        if (keys.isEmpty()) return;
+        MultiEvictCache.multiEvict(cache(), keys);
+    }
+
+    /**
+     * Writes the complete price windows of updated products straight into this replica's in-process tier, so an
+     * update warms the product instead of leaving a miss behind. As with an invalidation, the generation is bumped
+     * first so a load already in flight does not overwrite the new prices. The shared tier is only evicted: replicas
+     * apply events at their own pace, and one lagging behind must not replace newer prices there with older ones.
+     * Used on every replica.
+     */
+    public void upsertPrices(Map<PriceKey, List<Price>> prices) {
+        if (prices.isEmpty()) return;
+        Cache cache = cache();
+        if (cache instanceof NearCache nearCache) nearCache.evictAllRemote(prices.keySet());
+        prices.forEach((key, windows) -> {
+            keyFilter.add(key);
+            generations.bump(key);
+            PriceTimeline timeline = PriceTimeline.compile(windows);
+            if (cache instanceof NearCache nearCache) {
+                nearCache.putLocal(key, timeline);
+            } else {
+                cache.put(key, timeline);
+            }
+            refresher.written(key, timeline);
+            metrics.recordRequest(PRICE_DETAIL.getValue(), MetricsType.CACHE_UPSERT);
+        });
+        log.info("Cache updated in place for {} products", prices.size());
+    }
+
+    /**
+     * Loads the timelines of the given products into the cache tiers. Entries already in the shared tier are
+     * only copied into the in-process one.
+     */
+    public void preload(Collection<PriceKey> keys) {
+        getTimelines(new HashSet<>(keys));
+    }
+
+    /**
+     * Returns the cached timeline of a product and brand, loading it from the database on a miss.
+     * A single load per key runs in this JVM and concurrent misses wait for its result; with a load lease the
+     * guarantee extends across replicas. Products without any price are cached as an empty timeline, a tombstone
+     * with a short TTL that the update event evicts like any other entry. Hot entries close to expiry are
+     * reloaded in the background by the refresher.
+     */
+    private PriceTimeline getTimeline(Long productId, Long brandId) {
+        PriceKey key = new PriceKey(productId, brandId);
+        Cache cache = cache();
+        long start = System.nanoTime();
+        PriceTimeline cached = cache.get(key, PriceTimeline.class);
+        long lookupEnd = System.nanoTime();
+        RequestTrace.cache(lookupEnd - start);
+        if (cached != null) {
+            metrics.recordRequest(PRICE_DETAIL.getValue(), MetricsType.CACHE_HIT);
+            RequestTrace.servedFrom(MetricsTier.L1);
+            refresher.accessed(cache, key);
+            return cached;
+        }
+        metrics.recordRequest(PRICE_DETAIL.getValue(), MetricsType.CACHE_MISS);
+        RequestTrace.servedFrom(MetricsTier.DATABASE);
+        try {
+            return loadSingleFlight(cache, key);
+        } finally {
+            RequestTrace.database(System.nanoTime() - lookupEnd);
+        }
+    }
+
+    private PriceTimeline loadSingleFlight(Cache cache, PriceKey key) {
+        CompletableFuture<PriceTimeline> flight = new CompletableFuture<>();
+        CompletableFuture<PriceTimeline> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            metrics.recordRequest(PRICE_DETAIL.getValue(), MetricsType.COLLAPSED_LOAD);
+            return PriceTimelineLoader.await(leader);
+        }
+        try {
+            PriceTimeline timeline = loadOnce(cache, key);
+            flight.complete(timeline);
+            return timeline;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Loads a timeline under the load lease. A replica that does not get the lease waits for the holder to publish
+     * the entry and only queries the database itself if it does not show up in time.
+     */
+    private PriceTimeline loadOnce(Cache cache, PriceKey key) {
+        if (!loadLease.tryAcquire(key)) {
+            PriceTimeline published = awaitPublished(cache, key, loadLease.maxWait());
+            if (published != null) {
+                metrics.recordRequest(PRICE_DETAIL.getValue(), MetricsType.COLLAPSED_LOAD);
+                return published;
+            }
+        }
+        try {
+            long generation = generations.current(key);
+            PriceTimeline timeline = timelineLoader.load(key);
+            if (!timeline.isEmpty()) keyFilter.add(key);
+            if (generations.putIfCurrent(cache, key, timeline, generation)) refresher.written(key, timeline);
+            return timeline;
+        } finally {
+            loadLease.release(key);
+        }
+    }
+
+    private static PriceTimeline awaitPublished(Cache cache, PriceKey key, Duration maxWait) {
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(LEASE_POLL_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            PriceTimeline published = cache.get(key, PriceTimeline.class);
+            if (published != null) return published;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the timelines of many products, reading the cache once and loading every miss with one query.
+     */
+    private Map<PriceKey, PriceTimeline> getTimelines(Set<PriceKey> keys) {
+        Map<PriceKey, PriceTimeline> timelines = new HashMap<>();
+        if (keys.isEmpty()) return timelines;
+        Cache cache = cache();
+        long start = System.nanoTime();
+        MultiGetCache.multiGet(cache, keys).forEach((key, value) -> timelines.put((PriceKey) key, (PriceTimeline) value));
+        long lookupEnd = System.nanoTime();
+        RequestTrace.cache(lookupEnd - start);
+        timelines.keySet().forEach(key -> {
+            metrics.recordRequest(PRICE_DETAIL.getValue(), MetricsType.CACHE_HIT);
+            refresher.accessed(cache, key);
+        });
+        if (!timelines.isEmpty()) RequestTrace.servedFrom(MetricsTier.L1);
+
+        List<PriceKey> misses = keys.stream().filter(key -> !timelines.containsKey(key)).toList();
+        misses.forEach(key -> metrics.recordRequest(PRICE_DETAIL.getValue(), MetricsType.CACHE_MISS));
+        if (misses.isEmpty()) return timelines;
+
+        RequestTrace.servedFrom(MetricsTier.DATABASE);
+        Map<PriceKey, Long> missGenerations = new HashMap<>();
+        misses.forEach(key -> missGenerations.put(key, generations.current(key)));
+        timelineLoader.loadAll(misses).forEach((key, timeline) -> {
+            if (!timeline.isEmpty()) keyFilter.add(key);
+            if (generations.putIfCurrent(cache, key, timeline, missGenerations.get(key))) refresher.written(key, timeline);
+            timelines.put(key, timeline);
+        });
+        RequestTrace.database(System.nanoTime() - lookupEnd);
+        return timelines;
+    }
+
+    /**
+     * Checks the key filter, so combinations that never had a price skip the cache and the database.
+     */
+    private boolean isKnown(PriceKey key) {
+        if (keyFilter.mightContain(key)) return true;
+        metrics.recordRequest(PRICE_DETAIL.getValue(), MetricsType.FILTERED);
+        return false;
+    }
+
+    private Cache cache() {
+        return Objects.requireNonNull(cacheManager.getCache(PRICE_TIMELINE_CACHE), "Missing cache " + PRICE_TIMELINE_CACHE);
+    }
 }
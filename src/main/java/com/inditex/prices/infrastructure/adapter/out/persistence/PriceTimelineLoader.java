@@ -0,0 +1,153 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence;
+
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceTimeline;
+import com.inditex.prices.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.inditex.prices.infrastructure.config.PriceLoaderProperties;
+import com.inditex.prices.infrastructure.monitoring.DbFetchEvent;
+import com.inditex.prices.infrastructure.monitoring.MetricsRecorder;
+import com.inditex.prices.infrastructure.monitoring.MetricsTier;
+import com.inditex.prices.infrastructure.monitoring.MetricsType;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import static com.inditex.prices.infrastructure.monitoring.MetricsEndpoint.PRICE_DETAIL;
+
+/**
+ * Loads price timelines from the database.
+ * Concurrent misses for different products are collected during a short window, or until the batch is full,
+ * and resolved with one set-based query; every caller then gets the timeline of its own product.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PriceTimelineLoader {
+    private final JpaPriceRepository jpaPriceRepository;
+    private final MetricsRecorder metrics;
+    private final PriceLoaderProperties properties;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("price-timeline-loader").daemon().factory());
+    private Map<PriceKey, CompletableFuture<PriceTimeline>> pending;
+
+    /**
+     * Loads the timeline of a product and brand, waiting at most one batch window for other misses to join.
+     *
+     * @param key The product and brand.
+     * @return The compiled timeline, empty if the product has no prices.
+     */
+    public PriceTimeline load(PriceKey key) {
+        Duration window = properties.getBatchWindow();
+        if (window.isZero() || window.isNegative()) return loadAll(List.of(key)).get(key);
+
+        CompletableFuture<PriceTimeline> future;
+        Map<PriceKey, CompletableFuture<PriceTimeline>> full = null;
+        lock.lock();
+        try {
+            if (pending == null) {
+                Map<PriceKey, CompletableFuture<PriceTimeline>> batch = new HashMap<>();
+                pending = batch;
+                scheduler.schedule(() -> flush(batch), window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            future = pending.computeIfAbsent(key, k -> new CompletableFuture<>());
+            if (pending.size() >= properties.getMaxBatchSize()) {
+                full = pending;
+                pending = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (full != null) complete(full);
+        return await(future);
+    }
+
+    /**
+     * Loads the timelines of several products and brands with a single query.
+     *
+     * @param keys The products and brands.
+     * @return One timeline per key, empty for products without prices.
+     */
+    public Map<PriceKey, PriceTimeline> loadAll(Collection<PriceKey> keys) {
+        metrics.recordRequest(PRICE_DETAIL.getValue(), MetricsType.DATABASE_FETCH);
+        DbFetchEvent event = new DbFetchEvent();
+        event.begin();
+        long start = System.nanoTime();
+        List<PriceEntity> entities;
+        if (keys.size() == 1) {
+            PriceKey key = keys.iterator().next();
+            log.info("Search product: {} - on Database", key.productId());
+            entities = jpaPriceRepository.findByProductIdAndBrandId(key.productId(), key.brandId());
+            event.complete(key.productId(), key.brandId(), 1);
+        } else {
+            log.info("Search {} products on Database", keys.size());
+            Set<Long> productIds = keys.stream().map(PriceKey::productId).collect(Collectors.toSet());
+            Set<Long> brandIds = keys.stream().map(PriceKey::brandId).collect(Collectors.toSet());
+            entities = jpaPriceRepository.findByProductIdInAndBrandIdIn(productIds, brandIds);
+            event.complete(0L, 0L, keys.size());
+        }
+        metrics.recordLatency(MetricsTier.DATABASE, System.nanoTime() - start);
+        Map<PriceKey, List<Price>> prices = entities.stream()
+                .map(PriceEntity::toDomain)
+                .collect(Collectors.groupingBy(PriceKey::of));
+
+        Map<PriceKey, PriceTimeline> timelines = new HashMap<>();
+        keys.forEach(key -> timelines.put(key, PriceTimeline.compile(prices.getOrDefault(key, List.of()))));
+        return timelines;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Dispatches a batch whose window has ended, unless it was already dispatched for being full.
+     */
+    private void flush(Map<PriceKey, CompletableFuture<PriceTimeline>> batch) {
+        lock.lock();
+        try {
+            if (pending != batch) return;
+            pending = null;
+        } finally {
+            lock.unlock();
+        }
+        Thread.ofVirtual().name("price-timeline-batch").start(() -> complete(batch));
+    }
+
+    private void complete(Map<PriceKey, CompletableFuture<PriceTimeline>> batch) {
+        try {
+            Map<PriceKey, PriceTimeline> timelines = loadAll(batch.keySet());
+            batch.forEach((key, future) -> future.complete(timelines.get(key)));
+        } catch (RuntimeException e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    static PriceTimeline await(CompletableFuture<PriceTimeline> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+}
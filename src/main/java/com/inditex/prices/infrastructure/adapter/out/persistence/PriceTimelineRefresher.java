@@ -0,0 +1,109 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceTimeline;
+import com.inditex.prices.infrastructure.adapter.out.cache.PriceKeyGenerations;
+import com.inditex.prices.infrastructure.config.CacheProperties;
+import com.inditex.prices.infrastructure.monitoring.MetricsRecorder;
+import com.inditex.prices.infrastructure.monitoring.MetricsType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import static com.inditex.prices.infrastructure.monitoring.MetricsEndpoint.PRICE_DETAIL;
+
+/**
+ * Refresh-ahead of hot timelines. Each timeline this replica writes to the cache gets a refresh deadline at the
+ * configured fraction of its TTL; a hit after that deadline reloads the entry in the background while callers keep
+ * reading the cached value, so hot products do not expire on the request path.
+ * Refreshes run on virtual threads, at most {@code cache.refresh-concurrency} at a time; extra ones are skipped.
+ */
+@Component
+@Slf4j
+public class PriceTimelineRefresher {
+    private final PriceTimelineLoader timelineLoader;
+    private final MetricsRecorder metrics;
+    private final CacheProperties properties;
+    private final PriceKeyGenerations generations;
+    private final Map<PriceKey, Long> deadlines;
+    private final Set<PriceKey> refreshing = ConcurrentHashMap.newKeySet();
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("price-timeline-refresh-", 0).factory());
+
+    public PriceTimelineRefresher(PriceTimelineLoader timelineLoader, MetricsRecorder metrics, CacheProperties properties,
+                                  PriceKeyGenerations generations) {
+        this.timelineLoader = timelineLoader;
+        this.metrics = metrics;
+        this.properties = properties;
+        this.generations = generations;
+        this.permits = new Semaphore(Math.max(1, properties.getRefreshConcurrency()));
+        this.deadlines = Caffeine.newBuilder()
+                .maximumSize(Math.max(1, properties.getLocalMaxWeight()))
+                .expireAfterWrite(properties.getCacheTtl())
+                .<PriceKey, Long>build()
+                .asMap();
+    }
+
+    /**
+     * Records that a timeline was written to the cache. Tombstones are not refreshed ahead.
+     */
+    public void written(PriceKey key, PriceTimeline timeline) {
+        if (!isEnabled() || timeline.isEmpty()) return;
+        long refreshIn = (long) (properties.getCacheTtl().toNanos() * (1 - properties.getRefreshAheadFraction()));
+        deadlines.put(key, System.nanoTime() + refreshIn);
+    }
+
+    /**
+     * Records a cache hit, and reloads the timeline in the background if its refresh deadline has passed.
+     */
+    public void accessed(Cache cache, PriceKey key) {
+        if (!isEnabled()) return;
+        Long deadline = deadlines.get(key);
+        if (deadline == null || System.nanoTime() - deadline < 0) return;
+        if (!refreshing.add(key)) return;
+        if (!permits.tryAcquire()) {
+            refreshing.remove(key);
+            return;
+        }
+        long generation = generations.current(key);
+        executor.execute(() -> refresh(cache, key, generation));
+    }
+
+    public void forget(PriceKey key) {
+        deadlines.remove(key);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void refresh(Cache cache, PriceKey key, long generation) {
+        try {
+            PriceTimeline timeline = timelineLoader.load(key);
+            if (generations.putIfCurrent(cache, key, timeline, generation)) written(key, timeline);
+            metrics.recordRequest(PRICE_DETAIL.getValue(), MetricsType.REFRESH_AHEAD);
+        } catch (RuntimeException e) {
+            log.warn("Refresh-ahead failed for product: {} - brand: {}: {}", key.productId(), key.brandId(), e.getMessage());
+        } finally {
+            permits.release();
+            refreshing.remove(key);
+        }
+    }
+
+    private boolean isEnabled() {
+        double fraction = properties.getRefreshAheadFraction();
+        return fraction > 0 && fraction <= 1;
+    }
+
+}
@@ -1,19 +1,34 @@
 package com.inditex.prices.infrastructure.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceTimeline;
+import com.inditex.prices.infrastructure.adapter.out.cache.EntryTtl;
+import com.inditex.prices.infrastructure.adapter.out.cache.HotKeySnapshot;
+import com.inditex.prices.infrastructure.adapter.out.cache.LoadLease;
+import com.inditex.prices.infrastructure.adapter.out.cache.LocalCacheBuilder;
+import com.inditex.prices.infrastructure.adapter.out.cache.MultiGetRedisCacheManager;
+import com.inditex.prices.infrastructure.adapter.out.cache.PriceTimelineBinarySerializer;
+import com.inditex.prices.infrastructure.adapter.out.cache.PriceTimelineJsonSerializer;
+import com.inditex.prices.infrastructure.adapter.out.cache.RedisHotKeySnapshot;
+import com.inditex.prices.infrastructure.adapter.out.cache.RedisLoadLease;
+import com.inditex.prices.infrastructure.adapter.out.cache.TwoLevelCacheManager;
+import com.inditex.prices.infrastructure.monitoring.MetricsRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 @EnableCaching
 @Configuration
@@ -23,16 +38,50 @@ public class CacheConfig {
     private final CacheProperties cacheProperties;
     private final ObjectMapper objectMapper;
 
+    /**
+     * Near cache: a bounded in-process tier in front of Redis, so hot products are served without leaving the JVM.
+     */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        Jackson2JsonRedisSerializer<Price> serializer = new Jackson2JsonRedisSerializer<>(objectMapper, Price.class);
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, MeterRegistry meterRegistry,
+                                     MetricsRecorder metrics) {
+        return new TwoLevelCacheManager(redisCacheManager(connectionFactory),
+                LocalCacheBuilder.from(cacheProperties), meterRegistry, metrics);
+    }
+
+    /**
+     * Cluster-wide lease so a single replica reloads an expired hot product.
+     */
+    @Bean
+    public LoadLease loadLease(RedisConnectionFactory connectionFactory) {
+        if (!cacheProperties.isLeaseEnabled()) return LoadLease.NONE;
+        return new RedisLoadLease(new StringRedisTemplate(connectionFactory), cacheProperties.getLeaseTtl(),
+                cacheProperties.getLeaseMaxWait());
+    }
+
+    @Bean
+    public HotKeySnapshot hotKeySnapshot(RedisConnectionFactory connectionFactory) {
+        return new RedisHotKeySnapshot(new StringRedisTemplate(connectionFactory));
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+        PriceTimelineJsonSerializer jsonSerializer = new PriceTimelineJsonSerializer(objectMapper);
+        RedisSerializer<PriceTimeline> serializer = cacheProperties.getValueCodec() == CacheProperties.ValueCodec.JSON
+                ? jsonSerializer
+                : new PriceTimelineBinarySerializer(jsonSerializer);
+        EntryTtl entryTtl = new EntryTtl(cacheProperties.getCacheTtl(), cacheProperties.getNegativeTtl());
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(cacheProperties.getCacheTtl())
+                .entryTtl((key, value) -> entryTtl.of(value))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer))
                 .disableCachingNullValues();
+        config.configureKeyConverters(registry -> registry.addConverter(PriceKey.class, String.class,
+                key -> key.productId() + ":" + key.brandId()));
 
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(config)
-                .build();
+        CacheStatisticsCollector statistics = CacheStatisticsCollector.create();
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory)
+                .withStatisticsCollector(statistics);
+        RedisCacheManager redisCacheManager =
+                new MultiGetRedisCacheManager(cacheWriter, config, connectionFactory, statistics);
+        redisCacheManager.initializeCaches();
+        return redisCacheManager;
     }
 }
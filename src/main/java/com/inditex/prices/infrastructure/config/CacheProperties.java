@@ -15,4 +15,21 @@ import java.time.Duration;
 @ConfigurationProperties(prefix = "cache")
 public class CacheProperties {
     private Duration cacheTtl;
+    private ValueCodec valueCodec = ValueCodec.BINARY;
+    private Duration negativeTtl;
+    private Duration localTtl;
+    private long localMaxWeight;
+    private double refreshAheadFraction;
+    private int refreshConcurrency;
+    private boolean leaseEnabled;
+    private Duration leaseTtl;
+    private Duration leaseMaxWait;
+
+    /**
+     * Format of the values written to Redis. Both formats are always read, so replicas can switch one at a time.
+     */
+    public enum ValueCodec {
+        JSON,
+        BINARY
+    }
 }
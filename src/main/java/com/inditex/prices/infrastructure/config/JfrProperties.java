@@ -0,0 +1,26 @@
+package com.inditex.prices.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "jfr")
+public class JfrProperties {
+    /**
+     * Registers the /actuator/jfr endpoint. It has no authentication, so only enable it behind an internal port.
+     */
+    private boolean endpointEnabled;
+    /**
+     * JDK settings used when a start request does not name one: "default" (about 1% overhead) or "profile".
+     */
+    private String settings = "default";
+    private Duration maxAge = Duration.ofHours(1);
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+}
@@ -15,7 +15,7 @@ public class KafkaConfig {
     @Bean
     public NewTopic priceUpdatesTopic() {
         return TopicBuilder.name(kafkaProperties.getTopicName())
-                .partitions(1)
+                .partitions(kafkaProperties.getPartitions())
                 .replicas(1)
                 .build();
     }
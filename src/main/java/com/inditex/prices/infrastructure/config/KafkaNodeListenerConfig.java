@@ -0,0 +1,22 @@
+package com.inditex.prices.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ContainerPostProcessor;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+
+@Configuration
+public class KafkaNodeListenerConfig {
+
+    /**
+     * The replica consumer group is random per start and always begins at the latest offset, so its offsets are never
+     * read back. Manual acknowledgment with a listener that never acknowledges keeps the container from committing
+     * them, so the broker keeps no offsets of the group once the replica stops.
+     */
+    @Bean
+    public ContainerPostProcessor<String, Object, AbstractMessageListenerContainer<String, Object>>
+            nodeContainerPostProcessor() {
+        return container -> container.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+    }
+}
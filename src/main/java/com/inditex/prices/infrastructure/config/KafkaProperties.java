@@ -13,4 +13,24 @@ import org.springframework.stereotype.Component;
 @ConfigurationProperties(prefix = "kafka")
 public class KafkaProperties {
     private String topicName;
+    /**
+     * Upper bound of the price update events handled, and committed, as one batch.
+     */
+    private int maxPollRecords = 500;
+    /**
+     * Partitions of the price update topic. Events are keyed by brand and product, so ordering holds per product.
+     */
+    private int partitions = 6;
+    /**
+     * Listener consumers per replica, each one owning a share of the partitions.
+     */
+    private int concurrency = 3;
+    /**
+     * Products of a batch whose index reload runs at the same time.
+     */
+    private int laneConcurrency = 16;
+    /**
+     * Consumer group of this replica alone, which receives every update to clear the in-process state.
+     */
+    private String nodeGroupId;
 }
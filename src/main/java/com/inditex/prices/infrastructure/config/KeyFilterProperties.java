@@ -0,0 +1,29 @@
+package com.inditex.prices.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "key-filter")
+public class KeyFilterProperties {
+    private boolean enabled;
+    /**
+     * Minimum number of product and brand combinations the filter is sized for.
+     */
+    private long expectedKeys = 1_000_000;
+    private double falsePositiveRate = 0.01;
+    /**
+     * How often the filter is rebuilt from PRICES, to pick up rows written without an update event. Zero disables it.
+     */
+    private Duration rebuildInterval = Duration.ofMinutes(5);
+    /**
+     * Fraction of rejected keys still looked up, so a row missing from the filter is not answered with 404 for good.
+     */
+    private double passThroughRate = 0.01;
+}
@@ -1,22 +1,40 @@
 package com.inditex.prices.infrastructure.config;
 
+import com.inditex.prices.infrastructure.adapter.out.cache.HotKeySnapshot;
+import com.inditex.prices.infrastructure.adapter.out.cache.LoadLease;
+import com.inditex.prices.infrastructure.adapter.out.cache.LocalCacheBuilder;
+import lombok.RequiredArgsConstructor;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
-import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
-import java.util.List;
+import static com.inditex.prices.infrastructure.adapter.out.persistence.PriceRepositoryAdapter.PRICE_TIMELINE_CACHE;
 
 @EnableCaching
 @Configuration
+@RequiredArgsConstructor
 @Profile("local || integration")
 public class LocalCacheConfig {
+    private final CacheProperties cacheProperties;
+
     @Bean
     public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager("priceDetail");
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(PRICE_TIMELINE_CACHE);
+        cacheManager.setCaffeine(LocalCacheBuilder.from(cacheProperties));
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+
+    @Bean
+    public LoadLease loadLease() {
+        return LoadLease.NONE;
+    }
+
+    @Bean
+    public HotKeySnapshot hotKeySnapshot() {
+        return HotKeySnapshot.NONE;
     }
 }
@@ -0,0 +1,23 @@
+package com.inditex.prices.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "price-loader")
+public class PriceLoaderProperties {
+    /**
+     * How long concurrent cache misses are collected before they are loaded together. Zero disables collapsing.
+     */
+    private Duration batchWindow = Duration.ZERO;
+    /**
+     * Number of distinct products that dispatches a batch before its window ends.
+     */
+    private int maxBatchSize = 100;
+}
@@ -0,0 +1,22 @@
+package com.inditex.prices.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "response-cache")
+public class ResponseCacheProperties {
+    private boolean enabled;
+    private long maxSize = 100_000;
+    /**
+     * Cache-Control max-age of price responses. A response only changes when its price is updated,
+     * so this bounds how long clients and CDNs may serve an updated price.
+     */
+    private Duration maxAge = Duration.ofMinutes(1);
+}
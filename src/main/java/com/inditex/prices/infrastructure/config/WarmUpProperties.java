@@ -0,0 +1,34 @@
+package com.inditex.prices.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "warm-up")
+public class WarmUpProperties {
+    private boolean enabled;
+    /**
+     * Most products preloaded. The whole PRICES table is preloaded when it holds fewer combinations.
+     */
+    private int maxKeys = 50_000;
+    /**
+     * Products always preloaded, as {@code productId:brandId}.
+     */
+    private List<String> keys = new ArrayList<>();
+    /**
+     * Time the replica may spend warming up before it reports ready anyway.
+     */
+    private Duration timeBudget = Duration.ofSeconds(30);
+    /**
+     * How often the hottest products of this replica are saved for the next ones to start with.
+     */
+    private Duration snapshotInterval = Duration.ofMinutes(5);
+}
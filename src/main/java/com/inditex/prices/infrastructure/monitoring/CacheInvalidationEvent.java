@@ -0,0 +1,53 @@
+package com.inditex.prices.infrastructure.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the handling of a poll batch of price update events by one consumer group.
+ * It names the first product and brand of the batch, so a recording can be tied to a key without one event per key.
+ */
+@Name("com.inditex.prices.CacheInvalidation")
+@Label("Price Cache Invalidation")
+@Category("Prices API")
+@Description("Eviction, or in-place update for full-payload events, of the updated products in a cache tier, "
+        + "and the index when enabled, after a batch of price updates")
+@StackTrace(false)
+public class CacheInvalidationEvent extends Event {
+    @Label("Product ID")
+    @Description("Product of the first key of the batch, 0 for an empty batch")
+    long productId;
+
+    @Label("Brand ID")
+    @Description("Brand of the first key of the batch, 0 for an empty batch")
+    long brandId;
+
+    @Label("Tier")
+    @Description("l1 for the in-process tier of a replica, l2 for the shared tier")
+    String tier;
+
+    @Label("Events")
+    int events;
+
+    @Label("Keys")
+    @Description("Distinct products and brands evicted or updated in place")
+    int keys;
+
+    /**
+     * Ends the event and commits it if it passes the recording settings. Missing identifiers are recorded as 0.
+     */
+    public void complete(Long productId, Long brandId, MetricsTier tier, int events, int keys) {
+        end();
+        if (!shouldCommit()) return;
+        this.productId = productId == null ? 0 : productId;
+        this.brandId = brandId == null ? 0 : brandId;
+        this.tier = tier.getValue();
+        this.events = events;
+        this.keys = keys;
+        commit();
+    }
+}
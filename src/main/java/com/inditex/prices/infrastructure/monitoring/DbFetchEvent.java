@@ -0,0 +1,45 @@
+package com.inditex.prices.infrastructure.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a query that loads price timelines from the database.
+ */
+@Name("com.inditex.prices.DbFetch")
+@Label("Price DB Fetch")
+@Category("Prices API")
+@Description("Query loading the price windows of one or more products")
+@StackTrace(false)
+public class DbFetchEvent extends Event {
+    @Label("Product ID")
+    @Description("Product of a single-key load, 0 for a batch")
+    long productId;
+
+    @Label("Brand ID")
+    @Description("Brand of a single-key load, 0 for a batch")
+    long brandId;
+
+    @Label("Keys")
+    int keys;
+
+    @Label("Tier")
+    String tier;
+
+    /**
+     * Ends the event and commits it if it passes the recording settings. Missing identifiers are recorded as 0.
+     */
+    public void complete(Long productId, Long brandId, int keys) {
+        end();
+        if (!shouldCommit()) return;
+        this.productId = productId == null ? 0 : productId;
+        this.brandId = brandId == null ? 0 : brandId;
+        this.keys = keys;
+        this.tier = MetricsTier.DATABASE.getValue();
+        commit();
+    }
+}
@@ -0,0 +1,99 @@
+package com.inditex.prices.infrastructure.monitoring;
+
+import com.inditex.prices.infrastructure.config.JfrProperties;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.util.Map;
+
+/**
+ * Actuator endpoint that controls a continuous Flight Recorder recording.
+ * {@code POST /actuator/jfr} starts it, {@code GET /actuator/jfr} downloads a dump of what it holds so far and
+ * {@code DELETE /actuator/jfr} stops it.
+ * The project has no authentication, so the endpoint only exists with {@code jfr.endpoint-enabled=true} and is not
+ * part of the default web exposure; expose it on a separate, internal {@code management.server.port}.
+ */
+@Component
+@Endpoint(id = "jfr")
+@ConditionalOnProperty(prefix = "jfr", name = "endpoint-enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class JfrRecordingEndpoint {
+    private static final String RECORDING_NAME = "prices-api";
+
+    private final JfrProperties properties;
+    private Recording recording;
+
+    /**
+     * Starts the continuous recording, unless it is already running.
+     *
+     * @param settings JDK settings name, {@code default} or {@code profile}.
+     */
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable String settings) throws IOException, ParseException {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            String name = settings != null ? settings : properties.getSettings();
+            Recording started = new Recording(Configuration.getConfiguration(name));
+            started.setName(RECORDING_NAME);
+            started.setToDisk(true);
+            started.setMaxAge(properties.getMaxAge());
+            started.setMaxSize(properties.getMaxSize().toBytes());
+            started.start();
+            recording = started;
+            log.info("JFR recording started with '{}' settings", name);
+        }
+        return status();
+    }
+
+    /**
+     * Dumps the recording to a temporary file that is deleted once the response has been written.
+     *
+     * @return The recording, or null (404) when none is running.
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized Resource dump() throws IOException {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) return null;
+        Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+        recording.dump(file);
+        return new FileSystemResource(file) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                return Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE);
+            }
+        };
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+            log.info("JFR recording stopped");
+        }
+        return status();
+    }
+
+    private Map<String, Object> status() {
+        if (recording == null) return Map.of("state", RecordingState.CLOSED.name());
+        return Map.of("state", recording.getState().name(), "name", recording.getName(),
+                "maxAge", recording.getMaxAge().toString(), "maxSize", recording.getMaxSize());
+    }
+}
@@ -4,7 +4,8 @@ import lombok.Getter;
 
 @Getter
 public enum MetricsEndpoint {
-    PRICE_DETAIL("price_detail");
+    PRICE_DETAIL("price_detail"),
+    PRICE_BATCH("price_batch");
 
     private final String value;
 
@@ -1,24 +1,134 @@
 package com.inditex.prices.infrastructure.monitoring;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the API metrics. Every counter and timer of the known endpoints and tiers is registered up front,
+ * so recording on the request path is a table lookup plus an increment and allocates nothing.
+ */
 @Component
-@RequiredArgsConstructor
 public class MetricsRecorder {
-    private final MeterRegistry meterRegistry;
     private static final String KEY = "api.requests";
+    private static final String REQUEST_LATENCY = "api.requests.latency";
+    private static final String TIER_LATENCY = "price.lookup.latency";
+    private static final String UPDATE_BATCH_SIZE = "price.updates.batch.size";
+    private static final String UPDATE_EVICTED = "price.updates.evicted";
+    private static final String UPDATE_BATCH_LATENCY = "price.updates.batch.latency";
+    private static final String EVICTION_LAG = "price.updates.eviction.lag";
     private static final String TAG_FLOW = "flow";
     private static final String TAG_TYPE = "type";
+    private static final String TAG_TIER = "tier";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Map<MetricsType, Counter>> counters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> requestTimers = new ConcurrentHashMap<>();
+    private final Map<MetricsTier, Timer> tierTimers = new EnumMap<>(MetricsTier.class);
+    private final DistributionSummary updateBatchSize;
+    private final Counter updateEvicted;
+    private final Timer updateBatchTimer;
+    private final Timer evictionLag;
+
+    public MetricsRecorder(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (MetricsEndpoint endpoint : MetricsEndpoint.values()) {
+            counters.put(endpoint.getValue(), registerCounters(endpoint.getValue()));
+            requestTimers.put(endpoint.getValue(), registerRequestTimer(endpoint.getValue()));
+        }
+        for (MetricsTier tier : MetricsTier.values()) {
+            tierTimers.put(tier, Timer.builder(TIER_LATENCY)
+                    .tag(TAG_TIER, tier.getValue())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(100))
+                    .maximumExpectedValue(Duration.ofSeconds(1))
+                    .register(meterRegistry));
+        }
+        updateBatchSize = DistributionSummary.builder(UPDATE_BATCH_SIZE)
+                .baseUnit("events")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        updateEvicted = Counter.builder(UPDATE_EVICTED)
+                .baseUnit("keys")
+                .register(meterRegistry);
+        updateBatchTimer = Timer.builder(UPDATE_BATCH_LATENCY)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(10_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+        evictionLag = Timer.builder(EVICTION_LAG)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(10))
+                .register(meterRegistry);
+    }
 
     public void recordRequest(String endpoint, MetricsType tag) {
-        Counter.builder(KEY)
+        Map<MetricsType, Counter> byType = counters.get(endpoint);
+        if (byType == null) byType = counters.computeIfAbsent(endpoint, this::registerCounters);
+        byType.get(tag).increment();
+    }
+
+    /**
+     * Records the time spent resolving a request of the given endpoint.
+     */
+    public void recordLatency(String endpoint, long nanos) {
+        Timer timer = requestTimers.get(endpoint);
+        if (timer == null) timer = requestTimers.computeIfAbsent(endpoint, this::registerRequestTimer);
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the time spent reading from, or loading out of, one storage tier.
+     */
+    public void recordLatency(MetricsTier tier, long nanos) {
+        tierTimers.get(tier).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records a poll batch of price update events: the events received, the distinct products evicted or updated
+     * in place and the time spent on them.
+     */
+    public void recordUpdateBatch(int events, int evictedKeys, long nanos) {
+        updateBatchSize.record(events);
+        updateEvicted.increment(evictedKeys);
+        updateBatchTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the time from the publication of a price update to its eviction on this replica. Record timestamps
+     * come from the producer clock, so skew between hosts shows up here.
+     */
+    public void recordEvictionLag(long millis) {
+        evictionLag.record(Math.max(0, millis), TimeUnit.MILLISECONDS);
+    }
+
+    private Map<MetricsType, Counter> registerCounters(String endpoint) {
+        Map<MetricsType, Counter> byType = new EnumMap<>(MetricsType.class);
+        for (MetricsType type : MetricsType.values()) {
+            byType.put(type, Counter.builder(KEY)
+                    .tag(TAG_FLOW, endpoint)
+                    .tag(TAG_TYPE, type.getValue())
+                    .register(meterRegistry));
+        }
+        return byType;
+    }
+
+    private Timer registerRequestTimer(String endpoint) {
+        return Timer.builder(REQUEST_LATENCY)
                 .tag(TAG_FLOW, endpoint)
-                .tag(TAG_TYPE, tag.getValue())
-                .register(meterRegistry)
-                .increment();
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(10_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
     }
 
 }
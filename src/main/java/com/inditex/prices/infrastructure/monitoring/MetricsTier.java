@@ -0,0 +1,20 @@
+package com.inditex.prices.infrastructure.monitoring;
+
+import lombok.Getter;
+
+/**
+ * Storage tier a price lookup was served from. Tag values match the {@code tier} tag of the cache metrics.
+ */
+@Getter
+public enum MetricsTier {
+    L1("l1"),
+    L2("l2"),
+    DATABASE("database");
+
+    private final String value;
+
+    MetricsTier(String value) {
+        this.value = value;
+    }
+
+}
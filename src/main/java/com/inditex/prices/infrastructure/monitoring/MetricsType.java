@@ -8,8 +8,14 @@ public enum MetricsType {
     ERROR("error"),
     BAD_REQUEST("bad_request"),
     NOT_FOUND("not_found"),
+    CACHE_HIT("cache_hit"),
+    CACHE_MISS("cache_miss"),
     DATABASE_FETCH("database_fetch"),
     CACHE_INVALIDATION("cache_invalidation"),
+    CACHE_UPSERT("cache_upsert"),
+    COLLAPSED_LOAD("collapsed_load"),
+    FILTERED("filtered"),
+    REFRESH_AHEAD("refresh_ahead"),
     FALLBACK("fallback");
 
     private final String value;
@@ -0,0 +1,40 @@
+package com.inditex.prices.infrastructure.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the resolution of a single price search.
+ */
+@Name("com.inditex.prices.PriceLookup")
+@Label("Price Lookup")
+@Category("Prices API")
+@Description("Resolution of a price search and the tier it was served from")
+@StackTrace(false)
+public class PriceLookupEvent extends Event {
+    @Label("Product ID")
+    long productId;
+
+    @Label("Brand ID")
+    long brandId;
+
+    @Label("Tier")
+    @Description("l1, l2 or database; none when the key filter rejected the product")
+    String tier;
+
+    /**
+     * Ends the event and commits it if it passes the recording settings. Missing identifiers are recorded as 0.
+     */
+    public void complete(Long productId, Long brandId, MetricsTier tier) {
+        end();
+        if (!shouldCommit()) return;
+        this.productId = productId == null ? 0 : productId;
+        this.brandId = brandId == null ? 0 : brandId;
+        this.tier = tier == null ? "none" : tier.getValue();
+        commit();
+    }
+}
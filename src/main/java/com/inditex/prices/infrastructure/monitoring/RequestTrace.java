@@ -0,0 +1,101 @@
+package com.inditex.prices.infrastructure.monitoring;
+
+import java.util.Locale;
+
+/**
+ * Per-request attribution of where a price was served from and how long each step took, exposed as the
+ * {@code Server-Timing} and {@code X-Cache} response headers.
+ * A trace only exists while a request is open on the current thread, so the static recording methods are a
+ * thread-local read and nothing else when tracing is disabled or the caller runs in the background.
+ */
+public final class RequestTrace {
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private long cacheNanos;
+    private long databaseNanos;
+    private long renderNanos;
+    private MetricsTier servedFrom;
+
+    private RequestTrace() {
+    }
+
+    /**
+     * Opens a trace on the current thread.
+     */
+    public static RequestTrace begin() {
+        RequestTrace trace = new RequestTrace();
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return The trace open on the current thread, or null.
+     */
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    public static void cache(long nanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) trace.cacheNanos += nanos;
+    }
+
+    public static void database(long nanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) trace.databaseNanos += nanos;
+    }
+
+    public static void render(long nanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) trace.renderNanos += nanos;
+    }
+
+    /**
+     * Marks a tier as reached. A request that touches several tiers, as a batch does, is attributed to the
+     * slowest one.
+     */
+    public static void servedFrom(MetricsTier tier) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null && (trace.servedFrom == null || tier.compareTo(trace.servedFrom) > 0)) {
+            trace.servedFrom = tier;
+        }
+    }
+
+    /**
+     * @return The slowest tier reached, or null when none was.
+     */
+    public MetricsTier servedFrom() {
+        return servedFrom;
+    }
+
+    /**
+     * @return The {@code Server-Timing} header value, durations in milliseconds.
+     */
+    public String serverTiming() {
+        return "cache;dur=" + millis(cacheNanos)
+                + ", db;dur=" + millis(databaseNanos)
+                + ", render;dur=" + millis(renderNanos)
+                + ", total;dur=" + millis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * @return The {@code X-Cache} header value, or null when no tier was reached.
+     */
+    public String cacheStatus() {
+        if (servedFrom == null) return null;
+        return switch (servedFrom) {
+            case L1 -> "L1-HIT";
+            case L2 -> "L2-HIT";
+            case DATABASE -> "MISS";
+        };
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+}
@@ -1,6 +1,8 @@
 package com.inditex.prices;
 
 import com.inditex.prices.infrastructure.adapter.in.kafka.PriceUpdateMessage;
+import com.inditex.prices.infrastructure.adapter.in.rest.dto.PriceBatchItemResponse;
+import com.inditex.prices.infrastructure.adapter.in.rest.dto.PriceBatchRequest;
 import com.inditex.prices.infrastructure.adapter.in.rest.dto.PriceResponse;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -17,6 +19,8 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlConfig;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -80,4 +84,25 @@ class PricesIntegrationTest {
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
+    @Test
+    void getPrices_shouldResolveBatchInRequestOrder() {
+        var request = PriceBatchRequest.builder()
+                .items(List.of(
+                        new PriceBatchRequest.Item(LocalDateTime.of(2020, 6, 14, 16, 0), 35455L, 1L),
+                        new PriceBatchRequest.Item(LocalDateTime.of(2020, 6, 14, 10, 0), 99999L, 1L),
+                        new PriceBatchRequest.Item(LocalDateTime.of(2020, 6, 16, 21, 0), 35455L, 1L)))
+                .build();
+
+        var response = restTemplate.postForEntity("/v1/prices/batch", request, PriceBatchItemResponse[].class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        PriceBatchItemResponse[] body = response.getBody();
+        assertNotNull(body);
+        assertEquals(3, body.length);
+        assertEquals(200, body[0].status());
+        assertEquals(2, body[0].price().priceList());
+        assertEquals(404, body[1].status());
+        assertEquals(200, body[2].status());
+        assertEquals(4, body[2].price().priceList());
+    }
 }
@@ -1,20 +1,24 @@
 package com.inditex.prices;
 
+import com.inditex.prices.domain.model.PriceKey;
 import com.inditex.prices.infrastructure.adapter.in.kafka.PriceUpdateMessage;
 import com.inditex.prices.infrastructure.adapter.out.persistence.PriceRepositoryAdapter;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.LocalDateTime;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -28,9 +32,15 @@ public class PricesKafkaIntegrationTest {
     @MockitoBean
     private PriceRepositoryAdapter priceAdapter;
 
+    @Autowired
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
     @Value("${kafka.topic-name}")
     private String topic;
 
+    @Value("${kafka.partitions}")
+    private int partitions;
+
     @Test
     void handlePriceUpdate_shouldInvalidatePrice_whenValidMessageReceived() throws InterruptedException {
         var date = LocalDateTime.now();
@@ -40,9 +50,19 @@ public class PricesKafkaIntegrationTest {
                 .date(date)
                 .build();
 
-        kafkaTemplate.send(topic, message);
+        // The replica group starts at the latest offset, so publish once it owns the partition
+        ContainerTestUtils.waitForAssignment(listenerRegistry.getListenerContainer("priceUpdatesNode"), partitions);
+        kafkaTemplate.send(topic, message.key(), message);
         Thread.sleep(2000);
 
-        verify(priceAdapter, times(1)).invalidatePrice(any(), eq(35455L), eq(1L));
+        verify(priceAdapter, times(1)).evictCached(argThat(keys -> keys.contains(new PriceKey(35455L, 1L))));
+        verify(priceAdapter, times(1)).invalidatePrices(argThat(keys -> keys.contains(new PriceKey(35455L, 1L))));
+    }
+
+    @Test
+    void replicaListener_shouldNeverCommitOffsets() {
+        var container = listenerRegistry.getListenerContainer("priceUpdatesNode");
+
+        assertThat(container.getContainerProperties().getAckMode()).isEqualTo(ContainerProperties.AckMode.MANUAL);
     }
 }
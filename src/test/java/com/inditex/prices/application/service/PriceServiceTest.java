@@ -3,6 +3,7 @@ package com.inditex.prices.application.service;
 import com.inditex.prices.domain.exception.NotFoundException;
 import com.inditex.prices.domain.exception.ServiceUnavailableException;
 import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceQuery;
 import com.inditex.prices.domain.repository.PriceRepository;
 import com.inditex.prices.infrastructure.monitoring.MetricsEndpoint;
 import com.inditex.prices.infrastructure.monitoring.MetricsRecorder;
@@ -15,6 +16,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -56,6 +59,7 @@ class PriceServiceTest {
         // Then
         assertThat(actual).isEqualTo(expected);
         verify(metrics, times(1)).recordRequest(eq(MetricsEndpoint.PRICE_DETAIL.getValue()), eq(MetricsType.SUCCESS));
+        verify(metrics, times(1)).recordLatency(eq(MetricsEndpoint.PRICE_DETAIL.getValue()), anyLong());
         verifyNoMoreInteractions(metrics);
     }
 
@@ -73,6 +77,17 @@ class PriceServiceTest {
         verifyNoInteractions(metrics);
     }
 
+    @Test
+    void shouldPropagateRepositoryException_WhenIdsAreNull() {
+        // Given
+        var date = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+        when(priceRepository.getPrice(date, null, null)).thenThrow(new NotFoundException("Price not found for product"));
+
+        // When / Then: the lookup event accepts the missing ids and does not mask the repository outcome
+        assertThatThrownBy(() -> priceService.getPrice(date, null, null))
+                .isInstanceOf(NotFoundException.class);
+    }
+
     @Test
     void shouldPropagateNotFoundException_WhenRepositoryThrowsNotFound() {
         // Given
@@ -85,7 +100,8 @@ class PriceServiceTest {
                 .hasMessageContaining("not found");
 
         verify(priceRepository, times(1)).getPrice(date, 1L, 1L);
-        verifyNoInteractions(metrics);
+        verify(metrics, times(1)).recordLatency(eq(MetricsEndpoint.PRICE_DETAIL.getValue()), anyLong());
+        verifyNoMoreInteractions(metrics);
     }
 
     @Test
@@ -100,7 +116,39 @@ class PriceServiceTest {
                 .hasMessageContaining("db down");
 
         verify(priceRepository, times(1)).getPrice(date, 1L, 1L);
+        verify(metrics, times(1)).recordLatency(eq(MetricsEndpoint.PRICE_DETAIL.getValue()), anyLong());
+        verifyNoMoreInteractions(metrics);
+    }
+
+    @Test
+    void shouldReturnPricesInQueryOrderAndRecordBatchSuccess_WhenBatchIsResolved() {
+        // Given
+        var date = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+        var price = Price.builder().brandId(1L).productId(35455L).priceList(1).build();
+        var queries = List.of(new PriceQuery(date, 35455L, 1L), new PriceQuery(date, 1L, 1L));
+        when(priceRepository.getPrices(queries)).thenReturn(List.of(Optional.of(price), Optional.empty()));
+
+        // When
+        var actual = priceService.getPrices(queries);
+
+        // Then
+        assertThat(actual).containsExactly(Optional.of(price), Optional.empty());
+        verify(metrics, times(1)).recordRequest(eq(MetricsEndpoint.PRICE_BATCH.getValue()), eq(MetricsType.SUCCESS));
+        verify(metrics, times(1)).recordLatency(eq(MetricsEndpoint.PRICE_BATCH.getValue()), anyLong());
+        verifyNoMoreInteractions(metrics);
+    }
+
+    @Test
+    void shouldThrowNullPointerException_WhenAnyBatchDateIsNull() {
+        // Given
+        var queries = List.of(new PriceQuery(LocalDateTime.now(), 1L, 1L), new PriceQuery(null, 2L, 1L));
+
+        // When / Then
+        assertThatThrownBy(() -> priceService.getPrices(queries))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("The date must not be null");
+
+        verifyNoInteractions(priceRepository);
         verifyNoInteractions(metrics);
     }
 }
-
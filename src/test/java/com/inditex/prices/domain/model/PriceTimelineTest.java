@@ -0,0 +1,99 @@
+package com.inditex.prices.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceTimelineTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2020, 6, 14, 0, 0, 0);
+
+    private static Price price(int priceList, int priority, LocalDateTime start, LocalDateTime end) {
+        return Price.builder()
+                .brandId(1L)
+                .productId(35455L)
+                .startDate(start)
+                .endDate(end)
+                .priceList(priceList)
+                .priority(priority)
+                .price(BigDecimal.TEN)
+                .currency("EUR")
+                .build();
+    }
+
+    @Test
+    void shouldSplitOverlappingWindowsIntoDisjointSegments_WhenHigherPriorityWindowIsNested() {
+        // Given
+        var base = price(1, 0, DAY, DAY.plusDays(1).minusSeconds(1));
+        var promo = price(2, 1, DAY.plusHours(15), DAY.plusHours(18).plusMinutes(30));
+
+        // When
+        var timeline = PriceTimeline.compile(List.of(base, promo));
+
+        // Then
+        assertThat(timeline.segments()).extracting(PriceTimeline.Segment::price).containsExactly(base, promo, base);
+        assertThat(timeline.segments().get(0).start()).isEqualTo(DAY);
+        assertThat(timeline.segments().get(1).start()).isEqualTo(DAY.plusHours(15));
+        assertThat(timeline.segments().get(1).end()).isAfter(DAY.plusHours(18).plusMinutes(30));
+        assertThat(timeline.segments().get(2).end()).isAfter(DAY.plusDays(1).minusSeconds(1));
+    }
+
+    @Test
+    void shouldResolveHighestPriorityPriceWithInclusiveBounds_WhenDateIsInsideWindows() {
+        // Given
+        var base = price(1, 0, DAY, DAY.plusDays(1));
+        var promo = price(2, 1, DAY.plusHours(15), DAY.plusHours(18).plusMinutes(30));
+        var timeline = PriceTimeline.compile(List.of(promo, base));
+
+        // When / Then
+        assertThat(timeline.priceAt(DAY)).contains(base);
+        assertThat(timeline.priceAt(DAY.plusHours(15).minusSeconds(1))).contains(base);
+        assertThat(timeline.priceAt(DAY.plusHours(15))).contains(promo);
+        assertThat(timeline.priceAt(DAY.plusHours(18).plusMinutes(30))).contains(promo);
+        assertThat(timeline.priceAt(DAY.plusHours(18).plusMinutes(30).plusSeconds(1))).contains(base);
+        assertThat(timeline.priceAt(DAY.plusDays(1))).contains(base);
+    }
+
+    @Test
+    void shouldReturnEmpty_WhenDateFallsOutsideOrBetweenWindows() {
+        // Given
+        var morning = price(1, 0, DAY.plusHours(8), DAY.plusHours(10));
+        var evening = price(2, 0, DAY.plusHours(18), DAY.plusHours(20));
+        var timeline = PriceTimeline.compile(List.of(morning, evening));
+
+        // When / Then
+        assertThat(timeline.priceAt(DAY)).isEmpty();
+        assertThat(timeline.priceAt(DAY.plusHours(12))).isEmpty();
+        assertThat(timeline.priceAt(DAY.plusHours(21))).isEmpty();
+        assertThat(timeline.segments()).hasSize(2);
+    }
+
+    @Test
+    void shouldPreferEarliestStartedWindow_WhenPrioritiesAreEqual() {
+        // Given
+        var first = price(2, 1, DAY.plusHours(15), DAY.plusHours(18));
+        var second = price(1, 1, DAY.plusHours(16), DAY.plusHours(21));
+
+        // When
+        var timeline = PriceTimeline.compile(List.of(second, first));
+
+        // Then
+        assertThat(timeline.priceAt(DAY.plusHours(17))).contains(first);
+        assertThat(timeline.priceAt(DAY.plusHours(19))).contains(second);
+    }
+
+    @Test
+    void shouldBeEmpty_WhenCompiledWithoutWindows() {
+        // When
+        var timeline = PriceTimeline.compile(List.of());
+
+        // Then
+        assertThat(timeline.isEmpty()).isTrue();
+        assertThat(timeline.prices()).isEmpty();
+        assertThat(timeline.priceAt(DAY)).isEmpty();
+    }
+}
@@ -1,15 +1,38 @@
 package com.inditex.prices.infrastructure.adapter.in.kafka;
 
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.infrastructure.adapter.out.index.InMemoryPriceRepositoryAdapter;
 import com.inditex.prices.infrastructure.adapter.out.persistence.PriceRepositoryAdapter;
+import com.inditex.prices.infrastructure.config.KafkaProperties;
+import com.inditex.prices.infrastructure.monitoring.MetricsRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
 import static org.mockito.Mockito.*;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ExtendWith(MockitoExtension.class)
@@ -18,46 +41,258 @@ class PriceUpdateConsumerTest {
     @Mock
     private PriceRepositoryAdapter priceAdapter;
 
+    @Mock
+    private ObjectProvider<InMemoryPriceRepositoryAdapter> priceIndex;
+
+    @Mock
+    private MetricsRecorder metrics;
+
+    @Spy
+    private KafkaProperties kafkaProperties = new KafkaProperties();
+
     @InjectMocks
     private PriceUpdateConsumer consumer;
 
+    private static PriceUpdateMessage message(Long productId, Long brandId) {
+        return PriceUpdateMessage.builder()
+                .productId(productId)
+                .brandId(brandId)
+                .date(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .build();
+    }
+
+    private static List<Long> timestamps(List<PriceUpdateMessage> messages) {
+        return messages.stream().map(message -> System.currentTimeMillis()).toList();
+    }
+
+    @Test
+    void shouldEvictCachedProductsOnce_WhenServiceGroupReceivesBatch() {
+        // Given
+        var messages = List.of(message(1L, 1L), message(1L, 1L), message(2L, 1L));
+
+        // When
+        consumer.handlePriceUpdates(messages);
+
+        // Then: the replica state is left to the broadcast listener
+        verify(priceAdapter, times(1)).evictCached(Set.of(new PriceKey(1L, 1L), new PriceKey(2L, 1L)));
+        verifyNoMoreInteractions(priceAdapter);
+        verifyNoInteractions(priceIndex);
+    }
+
+    @Test
+    void shouldRecordEvictionLagPerEvent_WhenReplicaReceivesBatch() {
+        // Given
+        var messages = List.of(message(1L, 1L), message(1L, 1L));
+        var published = System.currentTimeMillis() - 250;
+
+        // When
+        consumer.handleNodeUpdates(messages, List.of(published, published));
+
+        // Then
+        verify(metrics, times(2)).recordEvictionLag(longThat(lag -> lag >= 250));
+    }
+
     @Test
     void shouldInvalidateCache_WhenPriceUpdateMessageReceived() {
         // Given
-        var date = LocalDateTime.of(2024, 1, 1, 12, 0);
-        var message = PriceUpdateMessage.builder()
-                .productId(123L)
-                .brandId(1L)
-                .date(date)
+        var messages = List.of(message(123L, 1L));
+
+        // When
+        consumer.handleNodeUpdates(messages, timestamps(messages));
+
+        // Then
+        verify(priceAdapter, times(1)).invalidatePrices(Set.of(new PriceKey(123L, 1L)));
+        verifyNoMoreInteractions(priceAdapter);
+    }
+
+    @Test
+    void shouldEvictEachProductOnceAndRecordBatch_WhenBatchRepeatsProducts() {
+        // Given
+        var messages = List.of(message(1L, 1L), message(2L, 1L), message(1L, 1L), message(1L, 2L), message(2L, 1L));
+
+        // When
+        consumer.handleNodeUpdates(messages, timestamps(messages));
+
+        // Then
+        verify(priceAdapter, times(1)).invalidatePrices(
+                Set.of(new PriceKey(1L, 1L), new PriceKey(2L, 1L), new PriceKey(1L, 2L)));
+        verify(metrics, times(1)).recordUpdateBatch(eq(5), eq(3), anyLong());
+    }
+
+    @Test
+    void shouldRefreshPriceIndex_WhenIndexIsEnabled() {
+        // Given
+        var index = mock(InMemoryPriceRepositoryAdapter.class);
+        var messages = List.of(message(123L, 1L), message(123L, 1L));
+        doAnswer(invocation -> {
+            invocation.<Consumer<InMemoryPriceRepositoryAdapter>>getArgument(0).accept(index);
+            return null;
+        }).when(priceIndex).ifAvailable(any());
+
+        // When
+        consumer.handleNodeUpdates(messages, timestamps(messages));
+
+        // Then
+        verify(index, times(1)).refresh(123L, 1L);
+    }
+
+    @Test
+    void shouldNotHoldBackOtherProducts_WhenOneIndexReloadIsSlow() {
+        // Given
+        var index = mock(InMemoryPriceRepositoryAdapter.class);
+        var fastReloaded = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            assertThat(fastReloaded.await(5, TimeUnit.SECONDS)).isTrue();
+            return null;
+        }).when(index).refresh(1L, 1L);
+        doAnswer(invocation -> {
+            fastReloaded.countDown();
+            return null;
+        }).when(index).refresh(2L, 1L);
+        doAnswer(invocation -> {
+            invocation.<Consumer<InMemoryPriceRepositoryAdapter>>getArgument(0).accept(index);
+            return null;
+        }).when(priceIndex).ifAvailable(any());
+
+        // When
+        consumer.handleNodeUpdates(List.of(message(1L, 1L), message(2L, 1L)), List.of(0L, 0L));
+
+        // Then: the slow product waited for the fast one, so both reloads ran at the same time
+        verify(index, times(1)).refresh(1L, 1L);
+        verify(index, times(1)).refresh(2L, 1L);
+    }
+
+    @Test
+    void shouldKeyMessageByBrandAndProduct_WhenKeyRequested() {
+        // When
+        var actual = message(123L, 4L).key();
+
+        // Then
+        assertThat(actual).isEqualTo("4:123");
+    }
+
+    @Test
+    void shouldUpsertLatestWindowsAndEvictTheRest_WhenBatchHasFullPayloadEvents() {
+        // Given
+        var index = mock(InMemoryPriceRepositoryAdapter.class);
+        var row = PriceRowMessage.builder()
+                .priceList(4)
+                .priority(1)
+                .startDate(LocalDateTime.of(2020, 6, 15, 16, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .price(new BigDecimal("38.95"))
+                .currency("EUR")
                 .build();
+        var full = message(1L, 1L).toBuilder().prices(List.of(row)).build();
+        var messages = List.of(message(1L, 1L), full, full.toBuilder().productId(2L).build(), message(2L, 1L));
+        doAnswer(invocation -> {
+            invocation.<Consumer<InMemoryPriceRepositoryAdapter>>getArgument(0).accept(index);
+            return null;
+        }).when(priceIndex).ifAvailable(any());
 
         // When
-        consumer.handlePriceUpdate(message);
+        consumer.handleNodeUpdates(messages, timestamps(messages));
+
+        // Then: the last event of each product wins
+        var prices = List.of(row.toDomain(1L, 1L));
+        verify(priceAdapter, times(1)).upsertPrices(Map.of(new PriceKey(1L, 1L), prices));
+        verify(priceAdapter, times(1)).invalidatePrices(Set.of(new PriceKey(2L, 1L)));
+        verify(index, times(1)).replace(1L, 1L, prices);
+        verify(index, times(1)).refresh(2L, 1L);
+        verify(index, never()).refresh(1L, 1L);
+    }
+
+    @Test
+    void shouldEvictProductInsteadOfFailingBatch_WhenFullPayloadHasMalformedRow() {
+        // Given
+        var valid = PriceRowMessage.builder()
+                .priceList(1)
+                .priority(0)
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .price(new BigDecimal("35.50"))
+                .currency("EUR")
+                .build();
+        var malformed = valid.toBuilder().startDate(null).build();
+        var good = message(1L, 1L).toBuilder().prices(List.of(valid)).build();
+        var bad = message(2L, 1L).toBuilder().prices(List.of(valid, malformed)).build();
+        var messages = List.of(good, bad);
+
+        // When
+        consumer.handleNodeUpdates(messages, timestamps(messages));
+
+        // Then: the malformed product falls back to eviction while the valid one is still applied in place
+        verify(priceAdapter, times(1)).upsertPrices(Map.of(new PriceKey(1L, 1L), List.of(valid.toDomain(1L, 1L))));
+        verify(priceAdapter, times(1)).invalidatePrices(Set.of(new PriceKey(2L, 1L)));
+    }
+
+    @Test
+    void shouldSkipEventsWithoutIds_WhenReplicaGroupReceivesBatch() {
+        // Given
+        var messages = List.of(message(null, 1L), message(1L, 1L), message(2L, null));
+
+        // When
+        consumer.handleNodeUpdates(messages, timestamps(messages));
+
+        // Then: only the complete event reaches the cache and the key filter
+        verify(priceAdapter, times(1)).invalidatePrices(Set.of(new PriceKey(1L, 1L)));
+        verify(priceAdapter, never()).upsertPrices(any());
+    }
+
+    @Test
+    void shouldRecordInvalidationEventWithFirstKeyAndTier_WhenServiceGroupReceivesBatch() throws Exception {
+        // Given
+        Path file = Files.createTempFile("invalidation", ".jfr");
+        try (var recording = new Recording()) {
+            recording.enable("com.inditex.prices.CacheInvalidation");
+            recording.start();
+
+            // When
+            consumer.handlePriceUpdates(List.of(message(7L, 2L), message(8L, 2L), message(7L, 2L)));
+            recording.stop();
+            recording.dump(file);
+        }
 
         // Then
-        verify(priceAdapter, times(1)).invalidatePrice(date, 123L, 1L);
+        RecordedEvent event = RecordingFile.readAllEvents(file).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals("com.inditex.prices.CacheInvalidation"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(event.getLong("productId")).isEqualTo(7L);
+        assertThat(event.getLong("brandId")).isEqualTo(2L);
+        assertThat(event.getString("tier")).isEqualTo("l2");
+        assertThat(event.getInt("events")).isEqualTo(3);
+        assertThat(event.getInt("keys")).isEqualTo(2);
+        Files.delete(file);
+    }
+
+    @Test
+    void shouldOnlyEvictFullPayload_WhenServiceGroupReceivesIt() {
+        // Given
+        var empty = message(3L, 1L).toBuilder().prices(List.of()).build();
+
+        // When
+        consumer.handlePriceUpdates(List.of(empty));
+
+        // Then: the shared tier is never written from events, so a lagging group cannot restore older prices
+        verify(priceAdapter, times(1)).evictCached(Set.of(new PriceKey(3L, 1L)));
         verifyNoMoreInteractions(priceAdapter);
     }
 
     @Test
     void shouldPropagateRuntimeException_WhenAdapterThrows() {
         // Given
-        var date = LocalDateTime.of(2024, 1, 1, 12, 0);
-        var message = PriceUpdateMessage.builder()
-                .productId(10L)
-                .brandId(2L)
-                .date(date)
-                .build();
+        var messages = List.of(message(10L, 2L));
 
         doThrow(new RuntimeException("boom"))
-                .when(priceAdapter).invalidatePrice(date, 10L, 2L);
+                .when(priceAdapter).invalidatePrices(Set.of(new PriceKey(10L, 2L)));
 
         // When / Then
-        assertThatThrownBy(() -> consumer.handlePriceUpdate(message))
+        assertThatThrownBy(() -> consumer.handleNodeUpdates(messages, timestamps(messages)))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("boom");
 
-        verify(priceAdapter, times(1)).invalidatePrice(date, 10L, 2L);
+        verify(priceAdapter, times(1)).invalidatePrices(Set.of(new PriceKey(10L, 2L)));
+        verifyNoInteractions(metrics);
     }
 }
-
@@ -3,11 +3,14 @@ package com.inditex.prices.infrastructure.adapter.in.rest;
 import com.inditex.prices.application.usecase.PriceUseCase;
 import com.inditex.prices.domain.exception.NotFoundException;
 import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.infrastructure.config.ResponseCacheProperties;
 import com.inditex.prices.infrastructure.monitoring.MetricsRecorder;
 import com.inditex.prices.infrastructure.monitoring.MetricsType;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -15,15 +18,22 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = PriceController.class)
+@Import({PriceResponseCache.class, ResponseCacheProperties.class})
 class PriceControllerTest {
 
     @Autowired
@@ -37,6 +47,19 @@ class PriceControllerTest {
 
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH.mm.ss");
 
+    private static Price samplePrice(LocalDateTime date) {
+        return Price.builder()
+                .brandId(1L)
+                .startDate(date.minusHours(1))
+                .endDate(date.plusHours(1))
+                .priceList(1)
+                .productId(35455L)
+                .priority(1)
+                .price(new BigDecimal("35.50"))
+                .currency("EUR")
+                .build();
+    }
+
     @Test
     void shouldReturn200AndCorrectJson_WhenRequestIsValid() throws Exception {
         // Given
@@ -76,6 +99,44 @@ class PriceControllerTest {
         assertThat(content).isNotBlank();
     }
 
+    @Test
+    void shouldSendEtagAndCacheControl_WhenPriceIsFound() throws Exception {
+        // Given
+        var date = LocalDateTime.parse("2020-06-14-10.00.00", FORMATTER);
+        when(priceUseCase.getPrice(date, 35455L, 1L)).thenReturn(samplePrice(date));
+
+        // When / Then
+        mockMvc.perform(get("/v1/prices")
+                        .param("date", "2020-06-14-10.00.00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", startsWith("\"1-")))
+                .andExpect(header().string("Cache-Control", containsString("max-age=")));
+    }
+
+    @Test
+    void shouldReturn304WithoutBody_WhenIfNoneMatchHoldsCurrentEtag() throws Exception {
+        // Given
+        var date = LocalDateTime.parse("2020-06-14-10.00.00", FORMATTER);
+        when(priceUseCase.getPrice(date, 35455L, 1L)).thenReturn(samplePrice(date));
+        var etag = mockMvc.perform(get("/v1/prices")
+                        .param("date", "2020-06-14-10.00.00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When / Then
+        var result = mockMvc.perform(get("/v1/prices")
+                        .param("date", "2020-06-14-10.00.00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andReturn();
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+    }
+
     @Test
     void shouldReturn400AndErrorResponse_WhenDateHasInvalidFormat() throws Exception {
         // Given
@@ -90,7 +151,7 @@ class PriceControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.status").value(400))
                 .andExpect(jsonPath("$.error").value("Bad Request"))
-                .andExpect(jsonPath("$.message").value(org.hamcrest.Matchers.containsString("Parameter 'date' has an invalid value")));
+                .andExpect(jsonPath("$.message").value(containsString("Parameter 'date' has an invalid value")));
 
         // Then
         verify(metrics, times(1)).recordRequest(eq("price_detail"), eq(MetricsType.BAD_REQUEST));
@@ -107,7 +168,7 @@ class PriceControllerTest {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.status").value(400))
-                .andExpect(jsonPath("$.message").value(org.hamcrest.Matchers.containsString("Required parameter is missing: brandId")));
+                .andExpect(jsonPath("$.message").value(containsString("Required parameter is missing: brandId")));
 
         // Then
         verify(metrics, times(1)).recordRequest(eq("price_detail"), eq(MetricsType.BAD_REQUEST));
@@ -128,7 +189,7 @@ class PriceControllerTest {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.status").value(404))
-                .andExpect(jsonPath("$.message").value(org.hamcrest.Matchers.containsString("Price not found")));
+                .andExpect(jsonPath("$.message").value(containsString("Price not found")));
 
         // Then
         verify(metrics, times(1)).recordRequest(eq("price_detail"), eq(MetricsType.NOT_FOUND));
@@ -146,10 +207,107 @@ class PriceControllerTest {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.status").value(400))
-                .andExpect(jsonPath("$.message").value(org.hamcrest.Matchers.containsString("Product ID must be positive")));
+                .andExpect(jsonPath("$.message").value(containsString("Product ID must be positive")));
 
         // Then
         verify(metrics, times(1)).recordRequest(eq("price_detail"), eq(MetricsType.BAD_REQUEST));
     }
 
+    @Test
+    void shouldReturn200AndItemsInRequestOrder_WhenBatchRequestIsValid() throws Exception {
+        // Given
+        var date = LocalDateTime.parse("2020-06-14-10.00.00", FORMATTER);
+        var price = Price.builder()
+                .brandId(1L)
+                .startDate(date.minusHours(1))
+                .endDate(date.plusHours(1))
+                .priceList(1)
+                .productId(35455L)
+                .priority(1)
+                .price(new BigDecimal("35.50"))
+                .currency("EUR")
+                .build();
+        var queries = List.of(new PriceQuery(date, 35455L, 1L), new PriceQuery(date, 99999L, 1L));
+        when(priceUseCase.getPrices(queries)).thenReturn(List.of(Optional.of(price), Optional.empty()));
+
+        var body = """
+                {"items": [
+                  {"date": "2020-06-14-10.00.00", "productId": 35455, "brandId": 1},
+                  {"date": "2020-06-14-10.00.00", "productId": 99999, "brandId": 1}
+                ]}
+                """;
+
+        // When
+        mockMvc.perform(post("/v1/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].status").value(200))
+                .andExpect(jsonPath("$[0].productId").value(35455))
+                .andExpect(jsonPath("$[0].price.priceList").value(1))
+                .andExpect(jsonPath("$[0].price.currency").value("EUR"))
+                .andExpect(jsonPath("$[1].status").value(404))
+                .andExpect(jsonPath("$[1].productId").value(99999))
+                .andExpect(jsonPath("$[1].price").doesNotExist());
+
+        // Then
+        verify(priceUseCase, times(1)).getPrices(queries);
+    }
+
+    @Test
+    void shouldReturn400AndErrorResponse_WhenBatchItemIsInvalid() throws Exception {
+        // Given
+        var body = """
+                {"items": [{"date": "2020-06-14-10.00.00", "productId": -1, "brandId": 1}]}
+                """;
+
+        // When
+        mockMvc.perform(post("/v1/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").value(containsString("Product ID must be positive")));
+
+        // Then
+        verifyNoInteractions(priceUseCase);
+        verify(metrics, times(1)).recordRequest(eq("price_batch"), eq(MetricsType.BAD_REQUEST));
+    }
+
+    @Test
+    void shouldReturn400AndErrorResponse_WhenBatchIsEmpty() throws Exception {
+        // When
+        mockMvc.perform(post("/v1/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": []}")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("items must not be empty")));
+
+        // Then
+        verifyNoInteractions(priceUseCase);
+    }
+
+    @Test
+    void shouldReturn400AndErrorResponse_WhenBatchDateHasInvalidFormat() throws Exception {
+        // Given
+        var body = """
+                {"items": [{"date": "2020/06/14", "productId": 35455, "brandId": 1}]}
+                """;
+
+        // When
+        mockMvc.perform(post("/v1/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+
+        // Then
+        verifyNoInteractions(priceUseCase);
+        verify(metrics, times(1)).recordRequest(eq("price_batch"), eq(MetricsType.BAD_REQUEST));
+    }
 }
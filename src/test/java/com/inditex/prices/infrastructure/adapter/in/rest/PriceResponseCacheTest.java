@@ -0,0 +1,101 @@
+package com.inditex.prices.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.infrastructure.config.ResponseCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private ResponseCacheProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ResponseCacheProperties();
+        properties.setEnabled(true);
+    }
+
+    private static Price price() {
+        var date = LocalDateTime.of(2020, 6, 14, 0, 0, 0);
+        return Price.builder().brandId(1L).productId(35455L).priceList(1).priority(0)
+                .startDate(date).endDate(date.plusDays(1)).price(new BigDecimal("35.50")).currency("EUR").build();
+    }
+
+    @Test
+    void shouldReuseSerializedBody_WhenSamePriceInstanceIsServedAgain() {
+        // Given
+        var cache = new PriceResponseCache(objectMapper, properties);
+        var price = price();
+
+        // When
+        var first = cache.render(price);
+        var second = cache.render(price);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.etag()).matches("\"1-[0-9a-f]+\"");
+        assertThat(new String(first.body(), StandardCharsets.UTF_8))
+                .contains("\"currency\":\"EUR\"")
+                .contains("\"startDate\":\"2020-06-14-00.00.00\"");
+    }
+
+    @Test
+    void shouldRenderAgain_WhenPriceWasReloadedAsNewInstance() {
+        // Given
+        var cache = new PriceResponseCache(objectMapper, properties);
+        var first = cache.render(price());
+
+        // When
+        var reloaded = cache.render(price());
+
+        // Then
+        assertThat(reloaded).isNotSameAs(first);
+        assertThat(reloaded.body()).isEqualTo(first.body());
+        assertThat(reloaded.etag()).isEqualTo(first.etag());
+    }
+
+    @Test
+    void shouldChangeEtag_WhenPriceAmountChanges() {
+        // Given
+        var cache = new PriceResponseCache(objectMapper, properties);
+        var price = price();
+        var updated = Price.builder().brandId(1L).productId(35455L).priceList(1).priority(0)
+                .startDate(price.startDate()).endDate(price.endDate()).price(new BigDecimal("36.00")).currency("EUR").build();
+
+        // When
+        var before = cache.render(price);
+        var after = cache.render(updated);
+
+        // Then
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+    }
+
+    @Test
+    void shouldSerializeEveryTime_WhenResponseCacheIsDisabled() {
+        // Given
+        properties.setEnabled(false);
+        var cache = new PriceResponseCache(objectMapper, properties);
+        var price = price();
+
+        // When
+        var first = cache.render(price);
+        var second = cache.render(price);
+
+        // Then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.body()).isEqualTo(first.body());
+    }
+}
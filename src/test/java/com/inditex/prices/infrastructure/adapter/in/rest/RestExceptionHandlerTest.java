@@ -14,9 +14,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -155,4 +161,37 @@ class RestExceptionHandlerTest {
         assertThat(resp.getBody().getMessage()).isEqualTo("Internal error");
         verify(metrics, times(1)).recordRequest(eq("price_detail"), eq(MetricsType.ERROR));
     }
+
+    @Test
+    void shouldReturnBadRequestWithFirstValidationMessage_WhenRequestBodyIsInvalid() {
+        // Given
+        var ex = mock(MethodArgumentNotValidException.class);
+        var bindingResult = mock(BindingResult.class);
+        when(ex.getBindingResult()).thenReturn(bindingResult);
+        when(bindingResult.getAllErrors()).thenReturn(List.of(new ObjectError("items", "items must not be empty")));
+
+        // When
+        var resp = handler.handleInvalidBody(ex);
+
+        // Then
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(resp.getBody()).isNotNull();
+        assertThat(resp.getBody().getMessage()).isEqualTo("items must not be empty");
+        verify(metrics, times(1)).recordRequest(eq("price_batch"), eq(MetricsType.BAD_REQUEST));
+    }
+
+    @Test
+    void shouldReturnBadRequestAndRecordMetric_WhenRequestBodyIsUnreadable() {
+        // Given
+        var ex = mock(HttpMessageNotReadableException.class);
+
+        // When
+        var resp = handler.handleUnreadableBody(ex);
+
+        // Then
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(resp.getBody()).isNotNull();
+        assertThat(resp.getBody().getMessage()).isEqualTo("Request body is missing or malformed");
+        verify(metrics, times(1)).recordRequest(eq("price_batch"), eq(MetricsType.BAD_REQUEST));
+    }
 }
@@ -0,0 +1,120 @@
+package com.inditex.prices.infrastructure.adapter.in.rest;
+
+import com.inditex.prices.application.usecase.PriceUseCase;
+import com.inditex.prices.domain.exception.NotFoundException;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.infrastructure.config.ResponseCacheProperties;
+import com.inditex.prices.infrastructure.monitoring.MetricsRecorder;
+import com.inditex.prices.infrastructure.monitoring.MetricsTier;
+import com.inditex.prices.infrastructure.monitoring.RequestTrace;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static com.inditex.prices.infrastructure.adapter.in.rest.ServerTimingFilter.SERVER_TIMING;
+import static com.inditex.prices.infrastructure.adapter.in.rest.ServerTimingFilter.X_CACHE;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = PriceController.class, properties = "server-timing.enabled=true")
+@Import({PriceResponseCache.class, ResponseCacheProperties.class})
+class ServerTimingFilterTest {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH.mm.ss");
+    private static final String DATE = "2020-06-14-10.00.00";
+    private static final String TIMING_PATTERN =
+            "cache;dur=\\d+\\.\\d{3}, db;dur=\\d+\\.\\d{3}, render;dur=\\d+\\.\\d{3}, total;dur=\\d+\\.\\d{3}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PriceUseCase priceUseCase;
+
+    @MockitoBean
+    private MetricsRecorder metrics;
+
+    private static Price samplePrice(LocalDateTime date) {
+        return Price.builder()
+                .brandId(1L)
+                .startDate(date.minusHours(1))
+                .endDate(date.plusHours(1))
+                .priceList(1)
+                .productId(35455L)
+                .priority(1)
+                .price(new BigDecimal("35.50"))
+                .currency("EUR")
+                .build();
+    }
+
+    private void servedFrom(MetricsTier tier) {
+        var date = LocalDateTime.parse(DATE, FORMATTER);
+        when(priceUseCase.getPrice(date, 35455L, 1L)).thenAnswer(invocation -> {
+            RequestTrace.servedFrom(tier);
+            return samplePrice(date);
+        });
+    }
+
+    @Test
+    void shouldWriteTimingAndCacheHeaders_WhenPriceIsServed() throws Exception {
+        // Given
+        servedFrom(MetricsTier.L2);
+
+        // When / Then
+        mockMvc.perform(get("/v1/prices")
+                        .param("date", DATE)
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(1))
+                .andExpect(header().string(SERVER_TIMING, matchesPattern(TIMING_PATTERN)))
+                .andExpect(header().string(X_CACHE, "L2-HIT"));
+    }
+
+    @Test
+    void shouldWriteTimingAndCacheHeaders_WhenResponseIsNotModified() throws Exception {
+        // Given
+        servedFrom(MetricsTier.L1);
+        var etag = mockMvc.perform(get("/v1/prices")
+                        .param("date", DATE)
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When / Then: a 304 has no body, so the headers must not depend on one being written
+        mockMvc.perform(get("/v1/prices")
+                        .param("date", DATE)
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(SERVER_TIMING, matchesPattern(TIMING_PATTERN)))
+                .andExpect(header().string(X_CACHE, "L1-HIT"));
+    }
+
+    @Test
+    void shouldWriteTimingHeaderWithoutCacheStatus_WhenPriceIsNotFound() throws Exception {
+        // Given
+        var date = LocalDateTime.parse(DATE, FORMATTER);
+        when(priceUseCase.getPrice(date, 35455L, 1L)).thenThrow(new NotFoundException("Price not found"));
+
+        // When / Then
+        mockMvc.perform(get("/v1/prices")
+                        .param("date", DATE)
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string(SERVER_TIMING, matchesPattern(TIMING_PATTERN)))
+                .andExpect(header().doesNotExist(X_CACHE));
+    }
+}
@@ -0,0 +1,64 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceTimeline;
+import com.inditex.prices.infrastructure.config.CacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalCacheBuilderTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private Cache<Object, Object> cache;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new CacheProperties();
+        properties.setLocalTtl(Duration.ofMinutes(1));
+        properties.setNegativeTtl(Duration.ofSeconds(10));
+        properties.setLocalMaxWeight(100);
+        cache = LocalCacheBuilder.from(properties).ticker(nanos::get).executor(Runnable::run).build();
+    }
+
+    @Test
+    void shouldExpireTombstoneAfterNegativeTtl_WhenTimelineIsEmpty() {
+        // Given
+        var key = new PriceKey(1L, 1L);
+        cache.put(key, PriceTimeline.empty());
+
+        // When
+        nanos.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        // Then
+        assertThat(cache.getIfPresent(key)).isNull();
+    }
+
+    @Test
+    void shouldKeepTimelineUntilLocalTtl_WhenTimelineHoldsPrices() {
+        // Given
+        var key = new PriceKey(1L, 1L);
+        var date = LocalDateTime.of(2020, 6, 14, 0, 0);
+        var price = Price.builder().productId(1L).brandId(1L).priceList(1).priority(0)
+                .startDate(date).endDate(date.plusDays(1)).price(BigDecimal.ONE).currency("EUR").build();
+        cache.put(key, PriceTimeline.compile(List.of(price)));
+
+        // When
+        nanos.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        // Then
+        assertThat(cache.getIfPresent(key)).isNotNull();
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertThat(cache.getIfPresent(key)).isNull();
+    }
+}
@@ -0,0 +1,83 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MultiGetRedisCacheTest {
+
+    @Mock
+    private RedisCacheWriter cacheWriter;
+
+    @Mock
+    private RedisConnectionFactory connectionFactory;
+
+    @Mock
+    private RedisConnection connection;
+
+    private CacheStatisticsCollector statistics;
+    private MultiGetRedisCache cache;
+
+    @BeforeEach
+    void setUp() {
+        statistics = CacheStatisticsCollector.create();
+        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(RedisSerializer.string()));
+        cache = new MultiGetRedisCache("priceTimeline", cacheWriter, config, connectionFactory, statistics);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    void shouldRecordHitsAndMisses_WhenGetAllReadsKeys() {
+        // Given
+        RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(stringCommands.mGet(any(byte[][].class)))
+                .thenReturn(Arrays.asList("value".getBytes(StandardCharsets.UTF_8), null, null));
+
+        // When
+        var actual = cache.getAll(List.of("a", "b", "c"));
+
+        // Then
+        assertThat(actual).isEqualTo(Map.of("a", "value"));
+        var stats = statistics.getCacheStatistics("priceTimeline");
+        assertThat(stats.getGets()).isEqualTo(3);
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRecordDeletes_WhenEvictAllRemovesKeys() {
+        // Given
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+
+        // When
+        cache.evictAll(List.of("a", "b"));
+
+        // Then
+        assertThat(statistics.getCacheStatistics("priceTimeline").getDeletes()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,63 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import com.inditex.prices.domain.model.PriceKey;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceKeyGenerationsTest {
+
+    private static final PriceKey KEY = new PriceKey(35455L, 1L);
+
+    private final PriceKeyGenerations generations = new PriceKeyGenerations();
+
+    private final ConcurrentMapCache cache = new ConcurrentMapCache("priceTimeline", false);
+
+    @Test
+    void shouldWriteValue_WhenGenerationIsUnchanged() {
+        // Given
+        var generation = generations.current(KEY);
+
+        // When
+        var actual = generations.putIfCurrent(cache, KEY, "loaded", generation);
+
+        // Then
+        assertThat(actual).isTrue();
+        assertThat(cache.get(KEY).get()).isEqualTo("loaded");
+    }
+
+    @Test
+    void shouldSkipWrite_WhenKeyWasBumpedSinceLoadStarted() {
+        // Given
+        var generation = generations.current(KEY);
+        generations.bump(KEY);
+
+        // When
+        var actual = generations.putIfCurrent(cache, KEY, "stale", generation);
+
+        // Then
+        assertThat(actual).isFalse();
+        assertThat(cache.get(KEY)).isNull();
+    }
+
+    @Test
+    void shouldEvictWrittenValue_WhenKeyIsBumpedDuringWrite() {
+        // Given
+        var generation = generations.current(KEY);
+        var racing = new ConcurrentMapCache("priceTimeline", false) {
+            @Override
+            public void put(Object key, Object value) {
+                super.put(key, value);
+                generations.bump(KEY);
+            }
+        };
+
+        // When
+        var actual = generations.putIfCurrent(racing, KEY, "stale", generation);
+
+        // Then
+        assertThat(actual).isFalse();
+        assertThat(racing.get(KEY)).isNull();
+    }
+}
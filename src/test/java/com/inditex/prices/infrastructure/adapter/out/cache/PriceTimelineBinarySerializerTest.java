@@ -0,0 +1,105 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceTimeline;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceTimelineBinarySerializerTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2020, 6, 14, 0, 0, 0);
+
+    private final PriceTimelineJsonSerializer jsonSerializer =
+            new PriceTimelineJsonSerializer(new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    private final PriceTimelineBinarySerializer serializer = new PriceTimelineBinarySerializer(jsonSerializer);
+
+    private static Price price(Long productId, int priceList, String amount, String currency, LocalDateTime end) {
+        return Price.builder()
+                .brandId(1L)
+                .productId(productId)
+                .startDate(DAY)
+                .endDate(end)
+                .priceList(priceList)
+                .priority(priceList - 1)
+                .price(new BigDecimal(amount))
+                .currency(currency)
+                .build();
+    }
+
+    @Test
+    void shouldRoundTripEveryWindowInFewerBytesThanJson_WhenTimelineIsBinaryEncodable() {
+        // Given
+        var timeline = PriceTimeline.compile(List.of(
+                price(35455L, 1, "35.50", "EUR", DAY.plusMonths(6).minusSeconds(1)),
+                price(35455L, 2, "-0.125", "XAU", DAY.plusHours(18).withNano(500)),
+                price(35455L, 3, "1999999.99", "USD", DAY.plusDays(1))));
+
+        // When
+        var bytes = serializer.serialize(timeline);
+        var actual = serializer.deserialize(bytes);
+
+        // Then
+        assertThat(bytes[0]).isEqualTo(PriceTimelineBinarySerializer.VERSION_1);
+        assertThat(bytes.length).isLessThan(jsonSerializer.serialize(timeline).length / 3);
+        assertThat(actual.prices()).containsExactlyElementsOf(timeline.prices());
+        assertThat(actual.segments()).isEqualTo(timeline.segments());
+    }
+
+    @Test
+    void shouldReadLegacyJsonEntries_WhenValueWasWrittenByPreviousVersion() {
+        // Given
+        var timeline = PriceTimeline.compile(List.of(price(35455L, 1, "35.50", "EUR", DAY.plusDays(1))));
+        var legacy = jsonSerializer.serialize(timeline);
+
+        // When
+        var actual = serializer.deserialize(legacy);
+
+        // Then
+        assertThat(actual.prices()).containsExactlyElementsOf(timeline.prices());
+    }
+
+    @Test
+    void shouldFallBackToJson_WhenTimelineMixesProducts() {
+        // Given
+        var timeline = PriceTimeline.compile(List.of(
+                price(1L, 1, "1.00", "EUR", DAY.plusDays(1)),
+                price(2L, 2, "2.00", "EUR", DAY.plusDays(1))));
+
+        // When
+        var bytes = serializer.serialize(timeline);
+
+        // Then
+        assertThat(bytes[0]).isNotEqualTo(PriceTimelineBinarySerializer.VERSION_1);
+        assertThat(serializer.deserialize(bytes).prices()).containsExactlyElementsOf(timeline.prices());
+    }
+
+    @Test
+    void shouldRoundTripTombstone_WhenTimelineIsEmpty() {
+        // When
+        var actual = serializer.deserialize(serializer.serialize(PriceTimeline.empty()));
+
+        // Then
+        assertThat(actual.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldThrowSerializationException_WhenBinaryEntryIsTruncated() {
+        // Given
+        var bytes = serializer.serialize(PriceTimeline.compile(List.of(price(35455L, 1, "35.50", "EUR", DAY.plusDays(1)))));
+        var truncated = Arrays.copyOf(bytes, bytes.length - 2);
+
+        // When / Then
+        assertThatThrownBy(() -> serializer.deserialize(truncated)).isInstanceOf(SerializationException.class);
+    }
+}
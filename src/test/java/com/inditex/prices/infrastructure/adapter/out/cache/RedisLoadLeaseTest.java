@@ -0,0 +1,86 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import com.inditex.prices.domain.model.PriceKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisLoadLeaseTest {
+
+    private static final PriceKey KEY = new PriceKey(35455L, 1L);
+    private static final String LEASE_KEY = "priceTimeline::lease::35455:1";
+    private static final Duration TTL = Duration.ofSeconds(5);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RedisLoadLease lease;
+
+    @BeforeEach
+    void setUp() {
+        lease = new RedisLoadLease(redisTemplate, TTL, Duration.ofMillis(500));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void shouldGrantAndReleaseOwnLease_WhenKeyIsFree() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), eq(TTL))).thenReturn(true);
+
+        // When
+        var acquired = lease.tryAcquire(KEY);
+        lease.release(KEY);
+
+        // Then
+        assertThat(acquired).isTrue();
+        verify(redisTemplate, times(1))
+                .execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(LEASE_KEY)), anyString());
+    }
+
+    @Test
+    void shouldDenyLeaseAndNotReleaseIt_WhenAnotherNodeHoldsIt() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), eq(TTL))).thenReturn(false);
+
+        // When
+        var acquired = lease.tryAcquire(KEY);
+        lease.release(KEY);
+
+        // Then
+        assertThat(acquired).isFalse();
+        verify(redisTemplate, never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any());
+    }
+
+    @Test
+    void shouldGrantLease_WhenRedisIsUnavailable() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), eq(TTL)))
+                .thenThrow(new RedisConnectionFailureException("Redis down"));
+
+        // When
+        var acquired = lease.tryAcquire(KEY);
+
+        // Then
+        assertThat(acquired).isTrue();
+    }
+}
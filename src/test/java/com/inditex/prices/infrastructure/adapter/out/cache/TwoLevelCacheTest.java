@@ -0,0 +1,118 @@
+package com.inditex.prices.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inditex.prices.infrastructure.monitoring.MetricsRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoLevelCacheTest {
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private ConcurrentMapCache remote;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        local = Caffeine.newBuilder().maximumSize(10).build();
+        remote = new ConcurrentMapCache("remote", false);
+        cache = new TwoLevelCache("priceTimeline", local, remote, new MetricsRecorder(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void shouldWriteToBothTiers_WhenPutCalled() {
+        // When
+        cache.put("key", "value");
+
+        // Then
+        assertThat(local.getIfPresent("key")).isEqualTo("value");
+        assertThat(remote.get("key").get()).isEqualTo("value");
+    }
+
+    @Test
+    void shouldPromoteRemoteHitIntoLocalTier_WhenLocalTierMisses() {
+        // Given
+        remote.put("key", "value");
+
+        // When
+        var actual = cache.get("key", String.class);
+
+        // Then
+        assertThat(actual).isEqualTo("value");
+        assertThat(local.getIfPresent("key")).isEqualTo("value");
+    }
+
+    @Test
+    void shouldServeFromLocalTier_WhenBothTiersHoldTheKey() {
+        // Given
+        cache.put("key", "value");
+        remote.evict("key");
+
+        // When
+        var actual = cache.get("key", String.class);
+
+        // Then
+        assertThat(actual).isEqualTo("value");
+    }
+
+    @Test
+    void shouldLoadAndStoreInBothTiers_WhenGetWithLoaderMisses() {
+        // When
+        var actual = cache.get("key", () -> "loaded");
+        var again = cache.get("key", () -> "reloaded");
+
+        // Then
+        assertThat(actual).isEqualTo("loaded");
+        assertThat(again).isEqualTo("loaded");
+        assertThat(remote.get("key").get()).isEqualTo("loaded");
+    }
+
+    @Test
+    void shouldRemoveFromBothTiers_WhenEvictCalled() {
+        // Given
+        cache.put("key", "value");
+
+        // When
+        cache.evict("key");
+
+        // Then
+        assertThat(cache.get("key")).isNull();
+        assertThat(local.getIfPresent("key")).isNull();
+        assertThat(remote.get("key")).isNull();
+    }
+
+    @Test
+    void shouldRemoveEveryKeyFromBothTiers_WhenEvictAllCalled() {
+        // Given
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.put("c", "3");
+
+        // When
+        cache.evictAll(List.of("a", "b", "missing"));
+
+        // Then
+        assertThat(local.getIfPresent("a")).isNull();
+        assertThat(remote.get("b")).isNull();
+        assertThat(cache.get("c", String.class)).isEqualTo("3");
+    }
+
+    @Test
+    void shouldWriteOnlyLocalTierAndEvictOnlyRemoteTier_WhenNearCacheOperationsCalled() {
+        // Given
+        remote.put("key", "old");
+
+        // When
+        cache.evictAllRemote(List.of("key"));
+        cache.putLocal("key", "new");
+
+        // Then
+        assertThat(local.getIfPresent("key")).isEqualTo("new");
+        assertThat(remote.get("key")).isNull();
+    }
+}
@@ -0,0 +1,139 @@
+package com.inditex.prices.infrastructure.adapter.out.index;
+
+import com.inditex.prices.domain.exception.NotFoundException;
+import com.inditex.prices.infrastructure.adapter.out.persistence.JpaPriceRepository;
+import com.inditex.prices.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.inditex.prices.infrastructure.monitoring.MetricsRecorder;
+import com.inditex.prices.infrastructure.monitoring.MetricsType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryPriceRepositoryAdapterTest {
+
+    @Mock
+    private JpaPriceRepository jpaPriceRepository;
+
+    @Mock
+    private MetricsRecorder metrics;
+
+    @InjectMocks
+    private InMemoryPriceRepositoryAdapter adapter;
+
+    private static PriceEntity entity(int priceList, int priority, String price, LocalDateTime start, LocalDateTime end) {
+        return PriceEntity.builder()
+                .brandId(1L)
+                .productId(35455L)
+                .startDate(start)
+                .endDate(end)
+                .priceList(priceList)
+                .priority(priority)
+                .price(new BigDecimal(price))
+                .currency("EUR")
+                .build();
+    }
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2020, 6, 14, 0, 0, 0);
+
+    @Test
+    void shouldReturnHighestPriorityPrice_WhenWindowsOverlap() {
+        // Given
+        when(jpaPriceRepository.findAll()).thenReturn(List.of(
+                entity(1, 0, "35.50", DAY, DAY.plusMonths(6)),
+                entity(2, 1, "25.45", DAY.plusHours(15), DAY.plusHours(18).plusMinutes(30))));
+        adapter.load();
+
+        // When
+        var before = adapter.getPrice(DAY.plusHours(10), 35455L, 1L);
+        var during = adapter.getPrice(DAY.plusHours(16), 35455L, 1L);
+        var atEnd = adapter.getPrice(DAY.plusHours(18).plusMinutes(30), 35455L, 1L);
+        var after = adapter.getPrice(DAY.plusHours(21), 35455L, 1L);
+
+        // Then
+        assertThat(before.priceList()).isEqualTo(1);
+        assertThat(during.priceList()).isEqualTo(2);
+        assertThat(atEnd.priceList()).isEqualTo(2);
+        assertThat(after.priceList()).isEqualTo(1);
+        verify(jpaPriceRepository, times(1)).findAll();
+        verify(metrics, times(1)).recordRequest(eq("price_detail"), eq(MetricsType.DATABASE_FETCH));
+        verifyNoMoreInteractions(jpaPriceRepository);
+    }
+
+    @Test
+    void shouldThrowNotFoundException_WhenNoWindowCoversDate() {
+        // Given
+        when(jpaPriceRepository.findAll()).thenReturn(List.of(entity(1, 0, "35.50", DAY, DAY.plusHours(1))));
+        adapter.load();
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.getPrice(DAY.minusSeconds(1), 35455L, 1L))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Price not found for product");
+        assertThatThrownBy(() -> adapter.getPrice(DAY.plusHours(1).plusSeconds(1), 35455L, 1L))
+                .isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> adapter.getPrice(DAY, 99999L, 1L))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void shouldKeepRefreshedProduct_WhenRefreshRunsWhileTableIsLoading() {
+        // Given: an update event refreshes the product after the snapshot was read but before it is published
+        var stale = entity(1, 0, "35.50", DAY, DAY.plusMonths(6));
+        var fresh = entity(5, 0, "30.50", DAY, DAY.plusMonths(6));
+        when(jpaPriceRepository.findByProductIdAndBrandId(35455L, 1L)).thenReturn(List.of(fresh));
+        when(jpaPriceRepository.findAll()).thenAnswer(invocation -> {
+            adapter.refresh(35455L, 1L);
+            return List.of(stale);
+        });
+
+        // When
+        adapter.load();
+
+        // Then
+        assertThat(adapter.getPrice(DAY.plusHours(10), 35455L, 1L).priceList()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldReloadProductFromDatabase_WhenRefreshCalled() {
+        // Given
+        when(jpaPriceRepository.findAll()).thenReturn(List.of(entity(1, 0, "35.50", DAY, DAY.plusDays(1))));
+        when(jpaPriceRepository.findByProductIdAndBrandId(35455L, 1L))
+                .thenReturn(List.of(entity(3, 0, "30.50", DAY, DAY.plusDays(1))));
+        adapter.load();
+
+        // When
+        adapter.refresh(35455L, 1L);
+
+        // Then
+        assertThat(adapter.getPrice(DAY.plusHours(1), 35455L, 1L).priceList()).isEqualTo(3);
+        verify(jpaPriceRepository, times(1)).findByProductIdAndBrandId(35455L, 1L);
+        verify(metrics, times(2)).recordRequest(eq("price_detail"), eq(MetricsType.DATABASE_FETCH));
+    }
+
+    @Test
+    void shouldRemoveProduct_WhenRefreshFindsNoRows() {
+        // Given
+        when(jpaPriceRepository.findAll()).thenReturn(List.of(entity(1, 0, "35.50", DAY, DAY.plusDays(1))));
+        when(jpaPriceRepository.findByProductIdAndBrandId(35455L, 1L)).thenReturn(List.of());
+        adapter.load();
+
+        // When
+        adapter.refresh(35455L, 1L);
+
+        // Then
+        assertThatThrownBy(() -> adapter.getPrice(DAY.plusHours(1), 35455L, 1L))
+                .isInstanceOf(NotFoundException.class);
+    }
+}
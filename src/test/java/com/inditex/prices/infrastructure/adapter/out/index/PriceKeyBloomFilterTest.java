@@ -0,0 +1,53 @@
+package com.inditex.prices.infrastructure.adapter.out.index;
+
+import com.inditex.prices.domain.model.PriceKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceKeyBloomFilterTest {
+
+    @Test
+    void shouldContainEveryAddedKey_WhenFilterIsFull() {
+        // Given
+        var filter = new PriceKeyBloomFilter(10_000, 0.01);
+
+        // When
+        LongStream.range(0, 10_000).forEach(id -> filter.put(new PriceKey(id, id % 4 + 1)));
+
+        // Then
+        assertThat(LongStream.range(0, 10_000).allMatch(id -> filter.mightContain(new PriceKey(id, id % 4 + 1)))).isTrue();
+        assertThat(filter.keyCount()).isGreaterThan(9_900);
+    }
+
+    @Test
+    void shouldStayCloseToTargetFalsePositiveRate_WhenQueryingUnknownKeys() {
+        // Given
+        var filter = new PriceKeyBloomFilter(10_000, 0.01);
+        LongStream.range(0, 10_000).forEach(id -> filter.put(new PriceKey(id, 1L)));
+
+        // When
+        long otherBrand = LongStream.range(0, 10_000).filter(id -> filter.mightContain(new PriceKey(id, 2L))).count();
+        long otherProduct = LongStream.range(10_000, 110_000).filter(id -> filter.mightContain(new PriceKey(id, 1L))).count();
+
+        // Then
+        assertThat(otherBrand / 10_000.0).isLessThan(0.02);
+        assertThat(otherProduct / 100_000.0).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+    }
+
+    @Test
+    void shouldHashNullIdsWithoutFailing_WhenKeyIsIncomplete() {
+        // Given
+        var filter = new PriceKeyBloomFilter(100, 0.01);
+
+        // When
+        filter.put(new PriceKey(null, 1L));
+
+        // Then
+        assertThat(filter.mightContain(new PriceKey(null, 1L))).isTrue();
+        assertThat(filter.mightContain(new PriceKey(null, null))).isFalse();
+    }
+}
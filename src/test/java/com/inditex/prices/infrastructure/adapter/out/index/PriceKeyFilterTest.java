@@ -0,0 +1,104 @@
+package com.inditex.prices.infrastructure.adapter.out.index;
+
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.infrastructure.adapter.out.persistence.JpaPriceRepository;
+import com.inditex.prices.infrastructure.config.KeyFilterProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PriceKeyFilterTest {
+
+    private static final PriceKey SEEDED = new PriceKey(35455L, 1L);
+    private static final PriceKey WRITTEN_LATER = new PriceKey(35456L, 1L);
+
+    @Mock
+    private JpaPriceRepository jpaPriceRepository;
+
+    private KeyFilterProperties properties;
+
+    private PriceKeyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KeyFilterProperties();
+        properties.setEnabled(true);
+        properties.setExpectedKeys(100);
+        properties.setRebuildInterval(Duration.ZERO);
+        properties.setPassThroughRate(0);
+        filter = new PriceKeyFilter(jpaPriceRepository, properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        filter.shutdown();
+    }
+
+    @Test
+    void shouldLetEveryKeyThrough_WhenFilterIsDisabled() {
+        // Given
+        properties.setEnabled(false);
+
+        // When
+        filter.load();
+
+        // Then
+        assertThat(filter.mightContain(WRITTEN_LATER)).isTrue();
+    }
+
+    @Test
+    void shouldAcceptRowWrittenAfterStartup_WhenFilterIsRebuilt() {
+        // Given
+        when(jpaPriceRepository.findDistinctKeys()).thenReturn(List.of(SEEDED)).thenReturn(List.of(SEEDED, WRITTEN_LATER));
+        filter.load();
+        var beforeRebuild = filter.mightContain(WRITTEN_LATER);
+
+        // When
+        filter.rebuild();
+
+        // Then
+        assertThat(beforeRebuild).isFalse();
+        assertThat(filter.mightContain(WRITTEN_LATER)).isTrue();
+        assertThat(filter.mightContain(SEEDED)).isTrue();
+    }
+
+    @Test
+    void shouldKeepPreviousFilter_WhenRebuildFails() {
+        // Given
+        when(jpaPriceRepository.findDistinctKeys()).thenReturn(List.of(SEEDED))
+                .thenThrow(new IllegalStateException("database down"));
+        filter.load();
+
+        // When
+        filter.rebuild();
+
+        // Then
+        assertThat(filter.mightContain(SEEDED)).isTrue();
+        assertThat(filter.mightContain(WRITTEN_LATER)).isFalse();
+    }
+
+    @Test
+    void shouldLetRejectedKeyThrough_WhenItIsSampledForPassThrough() {
+        // Given
+        properties.setPassThroughRate(1);
+        when(jpaPriceRepository.findDistinctKeys()).thenReturn(List.of(SEEDED));
+        filter.load();
+
+        // When
+        var actual = filter.mightContain(WRITTEN_LATER);
+
+        // Then
+        assertThat(actual).isTrue();
+    }
+}
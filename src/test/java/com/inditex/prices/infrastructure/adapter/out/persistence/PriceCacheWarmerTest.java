@@ -0,0 +1,131 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence;
+
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.infrastructure.adapter.out.cache.HotKeySnapshot;
+import com.inditex.prices.infrastructure.config.WarmUpProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceCacheWarmerTest {
+
+    @Mock
+    private PriceRepositoryAdapter priceAdapter;
+
+    @Mock
+    private JpaPriceRepository jpaPriceRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private HotKeySnapshot hotKeySnapshot;
+
+    private WarmUpProperties properties;
+
+    private PriceCacheWarmer warmer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WarmUpProperties();
+        properties.setEnabled(true);
+        warmer = new PriceCacheWarmer(priceAdapter, jpaPriceRepository, cacheManager, hotKeySnapshot, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        warmer.shutdown();
+    }
+
+    private static long deadline() {
+        return System.nanoTime() + Duration.ofMinutes(1).toNanos();
+    }
+
+    @Test
+    void shouldSelectConfiguredThenHotThenAllKeysWithoutDuplicates_WhenTableFits() {
+        // Given
+        properties.setKeys(List.of("1:1", "2:1"));
+        when(hotKeySnapshot.load()).thenReturn(List.of(new PriceKey(3L, 1L), new PriceKey(1L, 1L)));
+        when(jpaPriceRepository.findDistinctKeys(Limit.of(50_001)))
+                .thenReturn(List.of(new PriceKey(4L, 1L), new PriceKey(2L, 1L)));
+
+        // When
+        var actual = warmer.selectKeys(deadline());
+
+        // Then
+        assertThat(actual).containsExactly(
+                new PriceKey(1L, 1L), new PriceKey(2L, 1L), new PriceKey(3L, 1L), new PriceKey(4L, 1L));
+    }
+
+    @Test
+    void shouldSkipWholeTableAndCapKeys_WhenTableExceedsMaxKeys() {
+        // Given
+        properties.setMaxKeys(2);
+        when(hotKeySnapshot.load()).thenReturn(List.of(new PriceKey(3L, 1L), new PriceKey(5L, 1L), new PriceKey(6L, 1L)));
+        when(jpaPriceRepository.findDistinctKeys(Limit.of(3)))
+                .thenReturn(List.of(new PriceKey(7L, 1L), new PriceKey(8L, 1L), new PriceKey(9L, 1L)));
+
+        // When
+        var actual = warmer.selectKeys(deadline());
+
+        // Then
+        assertThat(actual).containsExactly(new PriceKey(3L, 1L), new PriceKey(5L, 1L));
+    }
+
+    @Test
+    void shouldPreloadWholeTable_WhenDistinctKeysFitDespiteManyRows() {
+        // Given: two products with thousands of windows each still fit in two keys
+        properties.setMaxKeys(2);
+        when(hotKeySnapshot.load()).thenReturn(List.of());
+        when(jpaPriceRepository.findDistinctKeys(Limit.of(3)))
+                .thenReturn(List.of(new PriceKey(1L, 1L), new PriceKey(2L, 1L)));
+
+        // When
+        var actual = warmer.selectKeys(deadline());
+
+        // Then
+        assertThat(actual).containsExactly(new PriceKey(1L, 1L), new PriceKey(2L, 1L));
+        verify(jpaPriceRepository, never()).count();
+    }
+
+    @Test
+    void shouldPreloadSelectedKeys_WhenApplicationStarts() {
+        // Given
+        var keys = List.of(new PriceKey(1L, 1L), new PriceKey(2L, 1L));
+        when(hotKeySnapshot.load()).thenReturn(keys);
+        when(jpaPriceRepository.findDistinctKeys(any(Limit.class))).thenReturn(keys);
+
+        // When
+        warmer.warmUp();
+
+        // Then
+        verify(priceAdapter, times(1)).preload(keys);
+    }
+
+    @Test
+    void shouldStopPreloading_WhenTimeBudgetIsExhausted() {
+        // Given
+        properties.setTimeBudget(Duration.ZERO);
+        when(hotKeySnapshot.load()).thenReturn(List.of(new PriceKey(1L, 1L)));
+
+        // When
+        warmer.warmUp();
+
+        // Then: the table is not even scanned once the budget is gone
+        verify(priceAdapter, never()).preload(any());
+        verify(jpaPriceRepository, never()).findDistinctKeys(any(Limit.class));
+    }
+}
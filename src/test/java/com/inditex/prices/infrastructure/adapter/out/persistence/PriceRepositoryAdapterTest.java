@@ -2,21 +2,42 @@ package com.inditex.prices.infrastructure.adapter.out.persistence;
 
 import com.inditex.prices.domain.exception.NotFoundException;
 import com.inditex.prices.domain.exception.ServiceUnavailableException;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.domain.model.PriceTimeline;
+import com.inditex.prices.infrastructure.adapter.out.cache.LoadLease;
+import com.inditex.prices.infrastructure.adapter.out.cache.PriceKeyGenerations;
+import com.inditex.prices.infrastructure.adapter.out.index.PriceKeyFilter;
 import com.inditex.prices.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.inditex.prices.infrastructure.config.CacheProperties;
+import com.inditex.prices.infrastructure.config.KeyFilterProperties;
+import com.inditex.prices.infrastructure.config.PriceLoaderProperties;
 import com.inditex.prices.infrastructure.monitoring.MetricsRecorder;
+import com.inditex.prices.infrastructure.monitoring.MetricsTier;
 import com.inditex.prices.infrastructure.monitoring.MetricsType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static com.inditex.prices.infrastructure.adapter.out.persistence.PriceRepositoryAdapter.PRICE_TIMELINE_CACHE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -29,26 +50,50 @@ class PriceRepositoryAdapterTest {
     @Mock
     private MetricsRecorder metrics;
 
-    @InjectMocks
+    private ConcurrentMapCacheManager cacheManager;
+
+    private PriceKeyFilter keyFilter;
+
     private PriceRepositoryAdapter adapter;
 
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(PRICE_TIMELINE_CACHE);
+        keyFilter = new PriceKeyFilter(jpaPriceRepository, new KeyFilterProperties(), new SimpleMeterRegistry());
+        adapter = adapter(LoadLease.NONE);
+    }
+
+    private PriceRepositoryAdapter adapter(LoadLease lease) {
+        var loader = new PriceTimelineLoader(jpaPriceRepository, metrics, new PriceLoaderProperties());
+        var cacheProperties = new CacheProperties();
+        cacheProperties.setCacheTtl(Duration.ofMinutes(30));
+        var generations = new PriceKeyGenerations();
+        return new PriceRepositoryAdapter(loader, metrics, cacheManager, lease, keyFilter,
+                new PriceTimelineRefresher(loader, metrics, cacheProperties, generations), generations);
+    }
+
+    private static PriceEntity entity(Long productId, Long brandId, int priceList, int priority,
+                                      LocalDateTime start, LocalDateTime end) {
+        return PriceEntity.builder()
+                .id((long) priceList)
+                .brandId(brandId)
+                .startDate(start)
+                .endDate(end)
+                .priceList(priceList)
+                .productId(productId)
+                .priority(priority)
+                .price(new BigDecimal("99.99"))
+                .currency("EUR")
+                .build();
+    }
+
     @Test
     void shouldReturnMappedPriceAndRecordDatabaseFetch_WhenEntityExists() {
         // Given
         var date = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
-        var entity = PriceEntity.builder()
-                .id(10L)
-                .brandId(1L)
-                .startDate(date.minusHours(1))
-                .endDate(date.plusHours(1))
-                .priceList(2)
-                .productId(35455L)
-                .priority(5)
-                .price(new BigDecimal("99.99"))
-                .currency("EUR")
-                .build();
+        var entity = entity(35455L, 1L, 2, 5, date.minusHours(1), date.plusHours(1));
 
-        when(jpaPriceRepository.findTopPrice(date, 35455L, 1L)).thenReturn(Optional.of(entity));
+        when(jpaPriceRepository.findByProductIdAndBrandId(35455L, 1L)).thenReturn(List.of(entity));
 
         // When
         var actual = adapter.getPrice(date, 35455L, 1L);
@@ -64,95 +109,176 @@ class PriceRepositoryAdapterTest {
         assertThat(actual.price()).isEqualTo(entity.getPrice());
         assertThat(actual.currency()).isEqualTo(entity.getCurrency());
 
-        verify(jpaPriceRepository, times(1)).findTopPrice(date, 35455L, 1L);
+        verify(jpaPriceRepository, times(1)).findByProductIdAndBrandId(35455L, 1L);
+        verify(metrics, times(1)).recordRequest(eq("price_detail"), eq(MetricsType.CACHE_MISS));
         verify(metrics, times(1)).recordRequest(eq("price_detail"), eq(MetricsType.DATABASE_FETCH));
+        verify(metrics, times(1)).recordLatency(eq(MetricsTier.DATABASE), anyLong());
         verifyNoMoreInteractions(metrics);
     }
 
+    @Test
+    void shouldResolveEveryDateFromCachedTimeline_WhenProductWasAlreadyLoaded() {
+        // Given
+        var date = LocalDateTime.of(2020, 6, 14, 0, 0, 0);
+        when(jpaPriceRepository.findByProductIdAndBrandId(35455L, 1L)).thenReturn(List.of(
+                entity(35455L, 1L, 1, 0, date, date.plusDays(1)),
+                entity(35455L, 1L, 2, 1, date.plusHours(15), date.plusHours(18))));
+
+        // When
+        var morning = adapter.getPrice(date.plusHours(10), 35455L, 1L);
+        var afternoon = adapter.getPrice(date.plusHours(16).plusSeconds(7), 35455L, 1L);
+        var evening = adapter.getPrice(date.plusHours(21).plusSeconds(13), 35455L, 1L);
+
+        // Then
+        assertThat(morning.priceList()).isEqualTo(1);
+        assertThat(afternoon.priceList()).isEqualTo(2);
+        assertThat(evening.priceList()).isEqualTo(1);
+        assertThat(cacheManager.getCache(PRICE_TIMELINE_CACHE).get(new PriceKey(35455L, 1L), PriceTimeline.class))
+                .isNotNull();
+        verify(jpaPriceRepository, times(1)).findByProductIdAndBrandId(35455L, 1L);
+        verify(metrics, times(1)).recordRequest(eq("price_detail"), eq(MetricsType.DATABASE_FETCH));
+    }
+
     @Test
     void shouldThrowNotFoundExceptionAndRecordDatabaseFetch_WhenEntityMissing() {
         // Given
         var date = LocalDateTime.now();
-        when(jpaPriceRepository.findTopPrice(date, 1L, 1L)).thenReturn(Optional.empty());
+        when(jpaPriceRepository.findByProductIdAndBrandId(1L, 1L)).thenReturn(List.of());
 
         // When / Then
         assertThatThrownBy(() -> adapter.getPrice(date, 1L, 1L))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("Price not found for product");
 
-        verify(jpaPriceRepository, times(1)).findTopPrice(date, 1L, 1L);
+        verify(jpaPriceRepository, times(1)).findByProductIdAndBrandId(1L, 1L);
         verify(metrics, times(1)).recordRequest(eq("price_detail"), eq(MetricsType.DATABASE_FETCH));
     }
 
     @Test
-    void shouldMapEntityWithNullFields_ToDomainCorrectly() {
+    void shouldServeRepeatedNotFoundFromTombstone_WhenProductHasNoPrices() {
         // Given
-        var date = LocalDateTime.of(2021, 1, 1, 0, 0);
-        var entity = PriceEntity.builder()
-                .id(20L)
-                .brandId(null)
-                .startDate(null)
-                .endDate(null)
-                .priceList(null)
-                .productId(123L)
-                .priority(null)
-                .price(null)
-                .currency(null)
-                .build();
+        var date = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+        when(jpaPriceRepository.findByProductIdAndBrandId(404L, 1L)).thenReturn(List.of());
+        assertThatThrownBy(() -> adapter.getPrice(date, 404L, 1L)).isInstanceOf(NotFoundException.class);
 
-        when(jpaPriceRepository.findTopPrice(date, 123L, null)).thenReturn(Optional.of(entity));
+        // When / Then
+        assertThatThrownBy(() -> adapter.getPrice(date.plusDays(1), 404L, 1L)).isInstanceOf(NotFoundException.class);
+        assertThat(cacheManager.getCache(PRICE_TIMELINE_CACHE).get(new PriceKey(404L, 1L), PriceTimeline.class))
+                .satisfies(timeline -> assertThat(timeline.isEmpty()).isTrue());
+        verify(jpaPriceRepository, times(1)).findByProductIdAndBrandId(404L, 1L);
+    }
+
+    @Test
+    void shouldEvictTombstone_WhenInvalidatePriceCalled() {
+        // Given
+        var date = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+        when(jpaPriceRepository.findByProductIdAndBrandId(404L, 1L)).thenReturn(List.of())
+                .thenReturn(List.of(entity(404L, 1L, 1, 0, date.minusDays(1), date.plusDays(1))));
+        assertThatThrownBy(() -> adapter.getPrice(date, 404L, 1L)).isInstanceOf(NotFoundException.class);
 
         // When
-        var actual = adapter.getPrice(date, 123L, null);
+        adapter.invalidatePrice(date, 404L, 1L);
+        var actual = adapter.getPrice(date, 404L, 1L);
 
         // Then
-        assertThat(actual).isNotNull();
-        assertThat(actual.brandId()).isNull();
-        assertThat(actual.startDate()).isNull();
-        assertThat(actual.endDate()).isNull();
-        assertThat(actual.priceList()).isNull();
-        assertThat(actual.productId()).isEqualTo(entity.getProductId());
-        assertThat(actual.priority()).isNull();
-        assertThat(actual.price()).isNull();
-        assertThat(actual.currency()).isNull();
+        assertThat(actual.priceList()).isEqualTo(1);
+        verify(jpaPriceRepository, times(2)).findByProductIdAndBrandId(404L, 1L);
+    }
+
+    @Test
+    void shouldThrowNotFoundExceptionWithoutDatabaseFetch_WhenCachedTimelineDoesNotCoverDate() {
+        // Given
+        var date = LocalDateTime.of(2021, 1, 1, 0, 0);
+        when(jpaPriceRepository.findByProductIdAndBrandId(123L, 1L))
+                .thenReturn(List.of(entity(123L, 1L, 1, 0, date, date.plusHours(1))));
+        adapter.getPrice(date, 123L, 1L);
 
-        verify(jpaPriceRepository, times(1)).findTopPrice(date, 123L, null);
+        // When / Then
+        assertThatThrownBy(() -> adapter.getPrice(date.plusDays(1), 123L, 1L))
+                .isInstanceOf(NotFoundException.class);
+
+        verify(jpaPriceRepository, times(1)).findByProductIdAndBrandId(123L, 1L);
         verify(metrics, times(1)).recordRequest(eq("price_detail"), eq(MetricsType.DATABASE_FETCH));
     }
 
     @Test
-    void shouldRecordCacheInvalidationMetric_WhenInvalidatePriceCalled() {
+    void shouldEvictTimelineAndRecordCacheInvalidationMetric_WhenInvalidatePriceCalled() {
         // Given
-        var date = LocalDateTime.now();
-        var productId = 1L;
-        var brandId = 1L;
+        var date = LocalDateTime.of(2022, 3, 3, 12, 0);
+        when(jpaPriceRepository.findByProductIdAndBrandId(1L, 1L))
+                .thenReturn(List.of(entity(1L, 1L, 1, 0, date.minusDays(1), date.plusDays(1))));
+        adapter.getPrice(date, 1L, 1L);
 
         // When
-        adapter.invalidatePrice(date, productId, brandId);
+        adapter.invalidatePrice(date.plusHours(3), 1L, 1L);
+        adapter.getPrice(date, 1L, 1L);
 
-        // Then: the adapter should call the metrics recorder for cache invalidation and not touch the JPA provider
+        // Then: any event date evicts the product timeline, so the next search reloads it
         verify(metrics, times(1)).recordRequest(eq("price_detail"), eq(MetricsType.CACHE_INVALIDATION));
+        verify(metrics, times(2)).recordRequest(eq("price_detail"), eq(MetricsType.DATABASE_FETCH));
+        verify(jpaPriceRepository, times(2)).findByProductIdAndBrandId(1L, 1L);
+    }
+
+    @Test
+    void shouldEvictEveryTimelineAndRecordOneInvalidationPerProduct_WhenInvalidatePricesCalled() {
+        // Given
+        var date = LocalDateTime.of(2022, 3, 3, 12, 0);
+        when(jpaPriceRepository.findByProductIdAndBrandId(anyLong(), eq(1L)))
+                .thenAnswer(invocation -> List.of(entity(invocation.getArgument(0), 1L, 1, 0,
+                        date.minusDays(1), date.plusDays(1))));
+        adapter.getPrice(date, 1L, 1L);
+        adapter.getPrice(date, 2L, 1L);
+
+        // When
+        adapter.invalidatePrices(List.of(new PriceKey(1L, 1L), new PriceKey(2L, 1L)));
+
+        // Then
+        var cache = cacheManager.getCache(PRICE_TIMELINE_CACHE);
+        assertThat(cache.get(new PriceKey(1L, 1L))).isNull();
+        assertThat(cache.get(new PriceKey(2L, 1L))).isNull();
+        verify(metrics, times(2)).recordRequest(eq("price_detail"), eq(MetricsType.CACHE_INVALIDATION));
+    }
+
+    @Test
+    void shouldNotCacheLoadedTimeline_WhenUpdateArrivesWhileLoading() {
+        // Given
+        var date = LocalDateTime.of(2022, 3, 3, 12, 0);
+        when(jpaPriceRepository.findByProductIdAndBrandId(1L, 1L)).thenAnswer(invocation -> {
+            adapter.invalidatePrice(date, 1L, 1L);
+            return List.of(entity(1L, 1L, 1, 0, date.minusDays(1), date.plusDays(1)));
+        });
+
+        // When
+        var actual = adapter.getPrice(date, 1L, 1L);
+
+        // Then: the caller gets the loaded price, but it is not cached as it may predate the update
+        assertThat(actual.priceList()).isEqualTo(1);
+        assertThat(cacheManager.getCache(PRICE_TIMELINE_CACHE).get(new PriceKey(1L, 1L))).isNull();
+    }
+
+    @Test
+    void shouldServeUpsertedWindowsWithoutDatabaseFetch_WhenUpsertPricesCalled() {
+        // Given
+        var date = LocalDateTime.of(2022, 3, 3, 12, 0);
+        var price = entity(5L, 1L, 7, 1, date.minusDays(1), date.plusDays(1)).toDomain();
+
+        // When
+        adapter.upsertPrices(Map.of(new PriceKey(5L, 1L), List.of(price)));
+        var actual = adapter.getPrice(date, 5L, 1L);
+
+        // Then
+        assertThat(actual.priceList()).isEqualTo(7);
+        verify(metrics, times(1)).recordRequest(eq("price_detail"), eq(MetricsType.CACHE_UPSERT));
         verifyNoInteractions(jpaPriceRepository);
-        verifyNoMoreInteractions(metrics);
     }
 
     @Test
     void shouldPassNullBrandIdAndRecordDatabaseFetch_WhenBrandIdIsNull() {
         // Given
         var date = LocalDateTime.of(2022, 3, 3, 12, 0);
-        var entity = PriceEntity.builder()
-                .id(30L)
-                .brandId(null)
-                .startDate(date.minusDays(1))
-                .endDate(date.plusDays(1))
-                .priceList(1)
-                .productId(555L)
-                .priority(0)
-                .price(new BigDecimal("10.00"))
-                .currency("USD")
-                .build();
+        var entity = entity(555L, null, 1, 0, date.minusDays(1), date.plusDays(1));
 
-        when(jpaPriceRepository.findTopPrice(date, 555L, null)).thenReturn(Optional.of(entity));
+        when(jpaPriceRepository.findByProductIdAndBrandId(555L, null)).thenReturn(List.of(entity));
 
         // When
         var actual = adapter.getPrice(date, 555L, null);
@@ -162,7 +288,7 @@ class PriceRepositoryAdapterTest {
         assertThat(actual.brandId()).isNull();
         assertThat(actual.productId()).isEqualTo(555L);
 
-        verify(jpaPriceRepository, times(1)).findTopPrice(date, 555L, null);
+        verify(jpaPriceRepository, times(1)).findByProductIdAndBrandId(555L, null);
         verify(metrics, times(1)).recordRequest(eq("price_detail"), eq(MetricsType.DATABASE_FETCH));
     }
 
@@ -171,19 +297,9 @@ class PriceRepositoryAdapterTest {
         // Given
         var date = LocalDateTime.of(2022, 5, 5, 8, 30);
         var negativeProductId = -10L;
-        var entity = PriceEntity.builder()
-                .id(40L)
-                .brandId(2L)
-                .startDate(date.minusHours(2))
-                .endDate(date.plusHours(2))
-                .priceList(3)
-                .productId(negativeProductId)
-                .priority(1)
-                .price(new BigDecimal("5.00"))
-                .currency("GBP")
-                .build();
+        var entity = entity(negativeProductId, 2L, 3, 1, date.minusHours(2), date.plusHours(2));
 
-        when(jpaPriceRepository.findTopPrice(date, negativeProductId, 2L)).thenReturn(Optional.of(entity));
+        when(jpaPriceRepository.findByProductIdAndBrandId(negativeProductId, 2L)).thenReturn(List.of(entity));
 
         // When
         var actual = adapter.getPrice(date, negativeProductId, 2L);
@@ -192,7 +308,7 @@ class PriceRepositoryAdapterTest {
         assertThat(actual).isNotNull();
         assertThat(actual.productId()).isEqualTo(negativeProductId);
 
-        verify(jpaPriceRepository, times(1)).findTopPrice(date, negativeProductId, 2L);
+        verify(jpaPriceRepository, times(1)).findByProductIdAndBrandId(negativeProductId, 2L);
         verify(metrics, times(1)).recordRequest(eq("price_detail"), eq(MetricsType.DATABASE_FETCH));
     }
 
@@ -228,4 +344,172 @@ class PriceRepositoryAdapterTest {
 
         verify(metrics, times(1)).recordRequest(eq("price_detail"), eq(MetricsType.FALLBACK));
     }
+
+    @Test
+    void shouldResolveBatchInQueryOrderWithSingleQueryForMisses_WhenSomeProductsAreCached() {
+        // Given
+        var date = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+        var cached = entity(1L, 1L, 1, 0, date.minusDays(1), date.plusDays(1));
+        when(jpaPriceRepository.findByProductIdAndBrandId(1L, 1L)).thenReturn(List.of(cached));
+        adapter.getPrice(date, 1L, 1L);
+
+        when(jpaPriceRepository.findByProductIdInAndBrandIdIn(Set.of(2L, 3L), Set.of(1L))).thenReturn(List.of(
+                entity(2L, 1L, 2, 0, date.minusDays(1), date.plusDays(1))));
+        var queries = List.of(
+                new PriceQuery(date, 2L, 1L),
+                new PriceQuery(date, 1L, 1L),
+                new PriceQuery(date, 3L, 1L),
+                new PriceQuery(date.plusDays(2), 1L, 1L));
+
+        // When
+        var actual = adapter.getPrices(queries);
+
+        // Then
+        assertThat(actual).hasSize(4);
+        assertThat(actual.get(0)).hasValueSatisfying(price -> assertThat(price.productId()).isEqualTo(2L));
+        assertThat(actual.get(1)).hasValueSatisfying(price -> assertThat(price.productId()).isEqualTo(1L));
+        assertThat(actual.get(2)).isEmpty();
+        assertThat(actual.get(3)).isEmpty();
+        verify(jpaPriceRepository, times(1)).findByProductIdInAndBrandIdIn(Set.of(2L, 3L), Set.of(1L));
+        verify(metrics, times(2)).recordRequest(eq("price_detail"), eq(MetricsType.DATABASE_FETCH));
+    }
+
+    @Test
+    void shouldNotQueryDatabase_WhenEveryBatchProductIsCached() {
+        // Given
+        var date = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+        when(jpaPriceRepository.findByProductIdAndBrandId(1L, 1L))
+                .thenReturn(List.of(entity(1L, 1L, 1, 0, date.minusDays(1), date.plusDays(1))));
+        adapter.getPrice(date, 1L, 1L);
+
+        // When
+        var actual = adapter.getPrices(List.of(new PriceQuery(date, 1L, 1L), new PriceQuery(date.plusHours(1), 1L, 1L)));
+
+        // Then
+        assertThat(actual).allSatisfy(price -> assertThat(price).isPresent());
+        verify(jpaPriceRepository, never()).findByProductIdInAndBrandIdIn(any(), any());
+    }
+
+    @Test
+    void shouldRecordFallbackMetricAndThrowServiceUnavailable_WhenHandleGetPricesFailureCalled() {
+        // When / Then
+        assertThatThrownBy(() -> adapter.handleGetPricesFailure(List.of(), new RuntimeException("DB down")))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        verify(metrics, times(1)).recordRequest(eq("price_detail"), eq(MetricsType.FALLBACK));
+    }
+
+    @Test
+    void shouldRunSingleLoadAndCollapseConcurrentMisses_WhenSameProductMissesConcurrently() throws Exception {
+        // Given
+        var date = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+        var release = new CountDownLatch(1);
+        when(jpaPriceRepository.findByProductIdAndBrandId(1L, 1L)).thenAnswer(invocation -> {
+            release.await();
+            return List.of(entity(1L, 1L, 1, 0, date.minusDays(1), date.plusDays(1)));
+        });
+
+        try (var callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            // When
+            Future<Integer> leader = callers.submit(() -> adapter.getPrice(date, 1L, 1L).priceList());
+            verify(jpaPriceRepository, timeout(1000)).findByProductIdAndBrandId(1L, 1L);
+            Future<Integer> follower = callers.submit(() -> adapter.getPrice(date, 1L, 1L).priceList());
+            verify(metrics, timeout(1000)).recordRequest(eq("price_detail"), eq(MetricsType.COLLAPSED_LOAD));
+            release.countDown();
+
+            // Then
+            assertThat(leader.get()).isEqualTo(1);
+            assertThat(follower.get()).isEqualTo(1);
+        }
+        verify(jpaPriceRepository, times(1)).findByProductIdAndBrandId(1L, 1L);
+        verify(metrics, times(1)).recordRequest(eq("price_detail"), eq(MetricsType.DATABASE_FETCH));
+    }
+
+    @Test
+    void shouldWaitForTimelinePublishedByLeaseHolder_WhenLeaseIsHeldByAnotherNode() {
+        // Given
+        var date = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+        var key = new PriceKey(1L, 1L);
+        var published = PriceTimeline.compile(List.of(entity(1L, 1L, 3, 0, date.minusDays(1), date.plusDays(1)).toDomain()));
+        var lease = mock(LoadLease.class);
+        when(lease.maxWait()).thenReturn(Duration.ofSeconds(1));
+        when(lease.tryAcquire(key)).thenAnswer(invocation -> {
+            cacheManager.getCache(PRICE_TIMELINE_CACHE).put(key, published);
+            return false;
+        });
+        adapter = adapter(lease);
+
+        // When
+        var actual = adapter.getPrice(date, 1L, 1L);
+
+        // Then
+        assertThat(actual.priceList()).isEqualTo(3);
+        verifyNoInteractions(jpaPriceRepository);
+        verify(metrics, times(1)).recordRequest(eq("price_detail"), eq(MetricsType.COLLAPSED_LOAD));
+    }
+
+    @Test
+    void shouldLoadFromDatabase_WhenLeaseHolderDoesNotPublishInTime() {
+        // Given
+        var date = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+        var lease = mock(LoadLease.class);
+        when(lease.maxWait()).thenReturn(Duration.ofMillis(30));
+        when(lease.tryAcquire(new PriceKey(1L, 1L))).thenReturn(false);
+        when(jpaPriceRepository.findByProductIdAndBrandId(1L, 1L))
+                .thenReturn(List.of(entity(1L, 1L, 1, 0, date.minusDays(1), date.plusDays(1))));
+        adapter = adapter(lease);
+
+        // When
+        var actual = adapter.getPrice(date, 1L, 1L);
+
+        // Then
+        assertThat(actual.priceList()).isEqualTo(1);
+        verify(jpaPriceRepository, times(1)).findByProductIdAndBrandId(1L, 1L);
+        verify(metrics, never()).recordRequest(eq("price_detail"), eq(MetricsType.COLLAPSED_LOAD));
+    }
+
+    @Test
+    void shouldRejectWithoutCacheOrDatabaseAccess_WhenKeyFilterExcludesProduct() {
+        // Given
+        var properties = new KeyFilterProperties();
+        properties.setEnabled(true);
+        properties.setExpectedKeys(100);
+        properties.setPassThroughRate(0);
+        keyFilter = new PriceKeyFilter(jpaPriceRepository, properties, new SimpleMeterRegistry());
+        when(jpaPriceRepository.findDistinctKeys()).thenReturn(List.of(new PriceKey(35455L, 1L)));
+        keyFilter.load();
+        adapter = adapter(LoadLease.NONE);
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.getPrice(LocalDateTime.now(), 99999L, 1L))
+                .isInstanceOf(NotFoundException.class);
+        assertThat(adapter.getPrices(List.of(new PriceQuery(LocalDateTime.now(), 99999L, 1L)))).containsExactly(Optional.empty());
+
+        verify(jpaPriceRepository, never()).findByProductIdAndBrandId(any(), any());
+        verify(jpaPriceRepository, never()).findByProductIdInAndBrandIdIn(any(), any());
+        verify(metrics, times(2)).recordRequest(eq("price_detail"), eq(MetricsType.FILTERED));
+    }
+
+    @Test
+    void shouldLetNewProductThroughKeyFilter_WhenUpdateEventIsReceived() {
+        // Given
+        var date = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+        var properties = new KeyFilterProperties();
+        properties.setEnabled(true);
+        properties.setExpectedKeys(100);
+        keyFilter = new PriceKeyFilter(jpaPriceRepository, properties, new SimpleMeterRegistry());
+        when(jpaPriceRepository.findDistinctKeys()).thenReturn(List.of());
+        keyFilter.load();
+        adapter = adapter(LoadLease.NONE);
+        when(jpaPriceRepository.findByProductIdAndBrandId(77L, 1L))
+                .thenReturn(List.of(entity(77L, 1L, 1, 0, date.minusDays(1), date.plusDays(1))));
+
+        // When
+        adapter.invalidatePrice(date, 77L, 1L);
+        var actual = adapter.getPrice(date, 77L, 1L);
+
+        // Then
+        assertThat(actual.priceList()).isEqualTo(1);
+        verify(metrics, never()).recordRequest(eq("price_detail"), eq(MetricsType.FILTERED));
+    }
 }
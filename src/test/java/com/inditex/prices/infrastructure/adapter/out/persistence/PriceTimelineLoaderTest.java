@@ -0,0 +1,141 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence;
+
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceTimeline;
+import com.inditex.prices.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.inditex.prices.infrastructure.config.PriceLoaderProperties;
+import com.inditex.prices.infrastructure.monitoring.MetricsRecorder;
+import com.inditex.prices.infrastructure.monitoring.MetricsType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceTimelineLoaderTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+
+    @Mock
+    private JpaPriceRepository jpaPriceRepository;
+
+    @Mock
+    private MetricsRecorder metrics;
+
+    private PriceLoaderProperties properties;
+
+    private PriceTimelineLoader loader;
+
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PriceLoaderProperties();
+        loader = new PriceTimelineLoader(jpaPriceRepository, metrics, properties);
+        callers = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        loader.shutdown();
+    }
+
+    private static PriceEntity entity(Long productId, Long brandId, int priceList) {
+        return PriceEntity.builder()
+                .id((long) priceList)
+                .brandId(brandId)
+                .startDate(DATE.minusDays(1))
+                .endDate(DATE.plusDays(1))
+                .priceList(priceList)
+                .productId(productId)
+                .priority(0)
+                .price(new BigDecimal("10.00"))
+                .currency("EUR")
+                .build();
+    }
+
+    @Test
+    void shouldLoadWithSingleKeyQuery_WhenBatchWindowIsZero() {
+        // Given
+        when(jpaPriceRepository.findByProductIdAndBrandId(1L, 1L)).thenReturn(List.of(entity(1L, 1L, 1)));
+
+        // When
+        var actual = loader.load(new PriceKey(1L, 1L));
+
+        // Then
+        assertThat(actual.priceAt(DATE)).hasValueSatisfying(price -> assertThat(price.priceList()).isEqualTo(1));
+        verify(jpaPriceRepository, never()).findByProductIdInAndBrandIdIn(any(), any());
+        verify(metrics, times(1)).recordRequest(eq("price_detail"), eq(MetricsType.DATABASE_FETCH));
+    }
+
+    @Test
+    void shouldCollapseConcurrentMissesIntoOneQuery_WhenBatchIsFull() throws Exception {
+        // Given
+        properties.setBatchWindow(Duration.ofMinutes(1));
+        properties.setMaxBatchSize(3);
+        when(jpaPriceRepository.findByProductIdInAndBrandIdIn(Set.of(1L, 2L, 3L), Set.of(1L, 2L))).thenReturn(List.of(
+                entity(1L, 1L, 1), entity(2L, 1L, 2), entity(1L, 2L, 3), entity(3L, 2L, 4)));
+
+        // When
+        Future<PriceTimeline> first = callers.submit(() -> loader.load(new PriceKey(1L, 1L)));
+        Future<PriceTimeline> second = callers.submit(() -> loader.load(new PriceKey(2L, 1L)));
+        Future<PriceTimeline> third = callers.submit(() -> loader.load(new PriceKey(3L, 2L)));
+
+        // Then: the third distinct key fills the batch, so nobody waits for the window
+        assertThat(first.get().prices()).singleElement().satisfies(price -> assertThat(price.priceList()).isEqualTo(1));
+        assertThat(second.get().prices()).singleElement().satisfies(price -> assertThat(price.priceList()).isEqualTo(2));
+        assertThat(third.get().prices()).singleElement().satisfies(price -> assertThat(price.priceList()).isEqualTo(4));
+        verify(jpaPriceRepository, times(1)).findByProductIdInAndBrandIdIn(any(), any());
+        verify(metrics, times(1)).recordRequest(eq("price_detail"), eq(MetricsType.DATABASE_FETCH));
+    }
+
+    @Test
+    void shouldDispatchPartialBatch_WhenWindowEnds() {
+        // Given
+        properties.setBatchWindow(Duration.ofMillis(5));
+        when(jpaPriceRepository.findByProductIdAndBrandId(7L, 1L)).thenReturn(List.of());
+
+        // When
+        var actual = loader.load(new PriceKey(7L, 1L));
+
+        // Then
+        assertThat(actual.isEmpty()).isTrue();
+        verify(jpaPriceRepository, times(1)).findByProductIdAndBrandId(7L, 1L);
+    }
+
+    @Test
+    void shouldPropagateQueryFailureToEveryCaller_WhenBatchedQueryFails() {
+        // Given
+        properties.setBatchWindow(Duration.ofMinutes(1));
+        properties.setMaxBatchSize(2);
+        when(jpaPriceRepository.findByProductIdInAndBrandIdIn(any(), any())).thenThrow(new IllegalStateException("DB down"));
+
+        // When
+        Future<PriceTimeline> first = callers.submit(() -> loader.load(new PriceKey(1L, 1L)));
+        Future<PriceTimeline> second = callers.submit(() -> loader.load(new PriceKey(2L, 1L)));
+
+        // Then
+        assertThatThrownBy(first::get).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(second::get).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(IllegalStateException.class);
+        verify(jpaPriceRepository, times(1)).findByProductIdInAndBrandIdIn(any(), any());
+    }
+}
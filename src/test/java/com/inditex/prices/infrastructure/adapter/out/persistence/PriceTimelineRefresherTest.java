@@ -0,0 +1,140 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence;
+
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceTimeline;
+import com.inditex.prices.infrastructure.adapter.out.cache.PriceKeyGenerations;
+import com.inditex.prices.infrastructure.config.CacheProperties;
+import com.inditex.prices.infrastructure.monitoring.MetricsRecorder;
+import com.inditex.prices.infrastructure.monitoring.MetricsType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceTimelineRefresherTest {
+
+    private static final PriceKey KEY = new PriceKey(35455L, 1L);
+
+    @Mock
+    private PriceTimelineLoader timelineLoader;
+
+    @Mock
+    private MetricsRecorder metrics;
+
+    private CacheProperties properties;
+
+    private ConcurrentMapCache cache;
+
+    private PriceTimelineRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheProperties();
+        properties.setCacheTtl(Duration.ofMinutes(30));
+        properties.setRefreshConcurrency(4);
+        properties.setLocalMaxWeight(100);
+        cache = new ConcurrentMapCache("priceTimeline");
+    }
+
+    @AfterEach
+    void tearDown() {
+        refresher.shutdown();
+    }
+
+    private static PriceTimeline timeline(int priceList) {
+        var date = LocalDateTime.of(2020, 6, 14, 0, 0);
+        return PriceTimeline.compile(List.of(Price.builder().productId(35455L).brandId(1L).priceList(priceList)
+                .priority(0).startDate(date).endDate(date.plusDays(1)).price(BigDecimal.TEN).currency("EUR").build()));
+    }
+
+    @Test
+    void shouldReloadEntryInBackground_WhenHitArrivesAfterRefreshDeadline() {
+        // Given
+        properties.setRefreshAheadFraction(1.0);
+        refresher = new PriceTimelineRefresher(timelineLoader, metrics, properties, new PriceKeyGenerations());
+        var refreshed = timeline(2);
+        when(timelineLoader.load(KEY)).thenReturn(refreshed);
+        cache.put(KEY, timeline(1));
+        refresher.written(KEY, timeline(1));
+
+        // When
+        refresher.accessed(cache, KEY);
+
+        // Then
+        verify(metrics, timeout(1000)).recordRequest(eq("price_detail"), eq(MetricsType.REFRESH_AHEAD));
+        assertThat(cache.get(KEY, PriceTimeline.class)).isSameAs(refreshed);
+    }
+
+    @Test
+    void shouldNotReload_WhenHitArrivesBeforeRefreshDeadline() {
+        // Given
+        properties.setRefreshAheadFraction(0.2);
+        refresher = new PriceTimelineRefresher(timelineLoader, metrics, properties, new PriceKeyGenerations());
+        refresher.written(KEY, timeline(1));
+
+        // When
+        refresher.accessed(cache, KEY);
+
+        // Then
+        verifyNoInteractions(timelineLoader);
+    }
+
+    @Test
+    void shouldNotReload_WhenEntryIsTombstoneOrRefreshAheadIsDisabled() {
+        // Given
+        properties.setRefreshAheadFraction(1.0);
+        refresher = new PriceTimelineRefresher(timelineLoader, metrics, properties, new PriceKeyGenerations());
+        refresher.written(KEY, PriceTimeline.empty());
+        var disabledProperties = new CacheProperties();
+        disabledProperties.setCacheTtl(Duration.ofMinutes(30));
+        var disabled = new PriceTimelineRefresher(timelineLoader, metrics, disabledProperties, new PriceKeyGenerations());
+        disabled.written(KEY, timeline(1));
+
+        // When
+        refresher.accessed(cache, KEY);
+        disabled.accessed(cache, KEY);
+        disabled.shutdown();
+
+        // Then
+        verifyNoInteractions(timelineLoader);
+    }
+
+    @Test
+    void shouldRunSingleRefreshPerKey_WhenManyHitsArriveWhileRefreshing() throws Exception {
+        // Given
+        properties.setRefreshAheadFraction(1.0);
+        refresher = new PriceTimelineRefresher(timelineLoader, metrics, properties, new PriceKeyGenerations());
+        var release = new CountDownLatch(1);
+        when(timelineLoader.load(KEY)).thenAnswer(invocation -> {
+            release.await();
+            return timeline(2);
+        });
+        refresher.written(KEY, timeline(1));
+
+        // When
+        refresher.accessed(cache, KEY);
+        verify(timelineLoader, timeout(1000)).load(KEY);
+        refresher.accessed(cache, KEY);
+        refresher.accessed(cache, KEY);
+        release.countDown();
+
+        // Then
+        verify(metrics, timeout(1000)).recordRequest(eq("price_detail"), eq(MetricsType.REFRESH_AHEAD));
+        verify(timelineLoader, times(1)).load(KEY);
+    }
+}
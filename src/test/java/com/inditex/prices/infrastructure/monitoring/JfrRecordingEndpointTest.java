@@ -0,0 +1,74 @@
+package com.inditex.prices.infrastructure.monitoring;
+
+import com.inditex.prices.infrastructure.config.JfrProperties;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JfrRecordingEndpointTest {
+
+    private final JfrRecordingEndpoint endpoint = new JfrRecordingEndpoint(new JfrProperties());
+
+    @AfterEach
+    void tearDown() {
+        endpoint.stop();
+    }
+
+    @Test
+    void shouldReturnNothing_WhenDumpRequestedWithoutRecording() throws Exception {
+        // When
+        var dump = endpoint.dump();
+
+        // Then
+        assertThat(dump).isNull();
+    }
+
+    @Test
+    void shouldDumpPriceLookupEvents_WhenRecordingIsRunning() throws Exception {
+        // Given
+        var status = endpoint.start(null);
+        var event = new PriceLookupEvent();
+        event.begin();
+
+        // When
+        event.complete(35455L, 1L, MetricsTier.L2);
+        var dump = endpoint.dump();
+
+        // Then
+        assertThat(status).containsEntry("state", "RUNNING");
+        Path file = Files.createTempFile("dump", ".jfr");
+        try (InputStream in = dump.getInputStream()) {
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        assertThat(dump.getFile()).doesNotExist();
+        RecordedEvent lookup = RecordingFile.readAllEvents(file).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals("com.inditex.prices.PriceLookup"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(lookup.getLong("productId")).isEqualTo(35455L);
+        assertThat(lookup.getLong("brandId")).isEqualTo(1L);
+        assertThat(lookup.getString("tier")).isEqualTo("l2");
+        Files.delete(file);
+    }
+
+    @Test
+    void shouldCloseRecording_WhenStopped() throws Exception {
+        // Given
+        endpoint.start("profile");
+
+        // When
+        var status = endpoint.stop();
+
+        // Then
+        assertThat(status).containsEntry("state", "CLOSED");
+        assertThat(endpoint.dump()).isNull();
+    }
+}
@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,5 +27,50 @@ class MetricsRecorderTest {
         assertThat(counter).isNotNull();
         assertThat(counter.count()).isEqualTo(1.0);
     }
-}
 
+    @Test
+    void shouldPreRegisterCountersOfKnownEndpoints_WhenCreated() {
+        // Given
+        var registry = new SimpleMeterRegistry();
+
+        // When
+        new MetricsRecorder(registry);
+
+        // Then
+        var counter = registry.get("api.requests").tag("flow", MetricsEndpoint.PRICE_DETAIL.getValue())
+                .tag("type", MetricsType.CACHE_HIT.getValue()).counter();
+        assertThat(counter.count()).isZero();
+    }
+
+    @Test
+    void shouldRecordTierLatency_WhenRecordLatencyCalledWithTier() {
+        // Given
+        var registry = new SimpleMeterRegistry();
+        var recorder = new MetricsRecorder(registry);
+
+        // When
+        recorder.recordLatency(MetricsTier.L1, 2_000);
+        recorder.recordLatency(MetricsTier.L1, 4_000);
+
+        // Then
+        var timer = registry.get("price.lookup.latency").tag("tier", "l1").timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.totalTime(TimeUnit.NANOSECONDS)).isEqualTo(6_000);
+        assertThat(registry.get("price.lookup.latency").tag("tier", "database").timer().count()).isZero();
+    }
+
+    @Test
+    void shouldRecordRequestLatency_WhenRecordLatencyCalledWithEndpoint() {
+        // Given
+        var registry = new SimpleMeterRegistry();
+        var recorder = new MetricsRecorder(registry);
+
+        // When
+        recorder.recordLatency(MetricsEndpoint.PRICE_BATCH.getValue(), 1_000_000);
+
+        // Then
+        var timer = registry.get("api.requests.latency").tag("flow", MetricsEndpoint.PRICE_BATCH.getValue()).timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(1.0);
+    }
+}
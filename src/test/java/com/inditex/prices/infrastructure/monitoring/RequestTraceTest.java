@@ -0,0 +1,67 @@
+package com.inditex.prices.infrastructure.monitoring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestTraceTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTrace.end();
+    }
+
+    @Test
+    void shouldIgnoreRecords_WhenNoTraceIsOpen() {
+        // When
+        RequestTrace.cache(1_000_000);
+        RequestTrace.servedFrom(MetricsTier.DATABASE);
+
+        // Then
+        assertThat(RequestTrace.current()).isNull();
+    }
+
+    @Test
+    void shouldReportL2Hit_WhenLookupReachedRedis() {
+        // Given
+        var trace = RequestTrace.begin();
+
+        // When
+        RequestTrace.servedFrom(MetricsTier.L2);
+        RequestTrace.servedFrom(MetricsTier.L1);
+
+        // Then
+        assertThat(trace.cacheStatus()).isEqualTo("L2-HIT");
+    }
+
+    @Test
+    void shouldReportMiss_WhenAnyProductWasLoadedFromDatabase() {
+        // Given
+        var trace = RequestTrace.begin();
+
+        // When
+        RequestTrace.servedFrom(MetricsTier.L1);
+        RequestTrace.servedFrom(MetricsTier.DATABASE);
+
+        // Then
+        assertThat(trace.cacheStatus()).isEqualTo("MISS");
+    }
+
+    @Test
+    void shouldFormatDurationsInMillis_WhenServerTimingRequested() {
+        // Given
+        var trace = RequestTrace.begin();
+
+        // When
+        RequestTrace.cache(250_000);
+        RequestTrace.database(1_500_000);
+        RequestTrace.database(500_000);
+        RequestTrace.render(10_000);
+
+        // Then
+        assertThat(trace.serverTiming())
+                .startsWith("cache;dur=0.250, db;dur=2.000, render;dur=0.010, total;dur=");
+        assertThat(trace.cacheStatus()).isNull();
+    }
+}